@@ -0,0 +1,101 @@
+package io.quarkus.vault.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.quarkus.vault.client.VaultClient;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitEncryptBatchItem;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitEncryptBatchParams;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Canned payloads and configuration shared by the benchmarks.
+ */
+final class Fixtures {
+
+    static final String BASE_URL = "http://localhost:8200";
+
+    static final String LOGIN_RESPONSE = "{" +
+            "\"request_id\":\"req\",\"lease_id\":\"\",\"renewable\":false,\"lease_duration\":0,\"data\":null," +
+            "\"auth\":{\"client_token\":\"vault-token\",\"renewable\":true,\"lease_duration\":86400,\"num_uses\":0," +
+            "\"policies\":[],\"metadata\":{}}}";
+
+    private Fixtures() {
+    }
+
+    static VaultClient.Builder client(StubExecutor executor) {
+        return VaultClient.builder()
+                .baseUrl(BASE_URL)
+                .executor(executor);
+    }
+
+    static String kv2ReadResponse(int fields) {
+        var data = IntStream.range(0, fields)
+                .mapToObj(i -> "\"key" + i + "\":\"value-" + i + "\"")
+                .collect(Collectors.joining(",", "{", "}"));
+        return "{\"request_id\":\"req\",\"lease_id\":\"\",\"renewable\":false,\"lease_duration\":0," +
+                "\"data\":{\"data\":" + data + ",\"metadata\":{\"created_time\":\"2024-01-01T00:00:00.000000Z\"," +
+                "\"custom_metadata\":null,\"deletion_time\":\"\",\"destroyed\":false,\"version\":3}}}";
+    }
+
+    static String encryptBatchResponse(int items) {
+        return batchResponse(items, i -> "{\"ciphertext\":\"" + ciphertext(i) + "\",\"key_version\":1}");
+    }
+
+    static String decryptBatchResponse(int items) {
+        return batchResponse(items, i -> "{\"plaintext\":\"" + base64(plaintext(i)) + "\"}");
+    }
+
+    private static String batchResponse(int items, IntFunction<String> item) {
+        return IntStream.range(0, items)
+                .mapToObj(item)
+                .collect(Collectors.joining(",",
+                        "{\"request_id\":\"req\",\"lease_id\":\"\",\"renewable\":false,\"lease_duration\":0," +
+                                "\"data\":{\"batch_results\":[",
+                        "]}}"));
+    }
+
+    static VaultSecretsTransitEncryptBatchParams encryptBatchParams(int items) {
+        var batch = new ArrayList<VaultSecretsTransitEncryptBatchItem>(items);
+        for (int i = 0; i < items; i++) {
+            batch.add(new VaultSecretsTransitEncryptBatchItem()
+                    .setPlaintext(plaintext(i).getBytes(UTF_8)));
+        }
+        return new VaultSecretsTransitEncryptBatchParams()
+                .setBatchInput(batch);
+    }
+
+    static String plaintext(int i) {
+        return "customer-" + i + "@example.com";
+    }
+
+    static String ciphertext(int i) {
+        return "vault:v1:" + base64("ciphertext-of-" + plaintext(i));
+    }
+
+    private static String base64(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(UTF_8));
+    }
+
+    /**
+     * Returns the default runtime configuration, as mapped by SmallRye Config without any property source, so that
+     * the benchmarks do not depend on the environment they run in.
+     */
+    static VaultRuntimeConfig runtimeConfig() {
+        return new SmallRyeConfigBuilder()
+                .withMapping(VaultRuntimeConfig.class)
+                .build()
+                .getConfigMapping(VaultRuntimeConfig.class);
+    }
+
+    static <T> List<T> listOf(int size, IntFunction<T> element) {
+        return IntStream.range(0, size).mapToObj(element).collect(Collectors.toList());
+    }
+}
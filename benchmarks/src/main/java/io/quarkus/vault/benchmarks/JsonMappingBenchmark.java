@@ -0,0 +1,110 @@
+package io.quarkus.vault.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitDecryptBatchItem;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitDecryptBatchParams;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitEncryptBatchParams;
+import io.quarkus.vault.client.common.VaultRequest;
+import io.quarkus.vault.client.common.VaultResponse;
+import io.quarkus.vault.client.json.JsonMapping;
+
+/**
+ * Serialization of transit batch parameters and deserialization of KV v2 and transit batch results.
+ * <p>
+ * Results are decoded with the result extractor of the request the generated API actually sends, captured once
+ * from a stub executor, so the benchmark follows the same types and Jackson configuration as the client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonMappingBenchmark {
+
+    @Param({ "1", "100" })
+    int batchSize;
+
+    private VaultSecretsTransitEncryptBatchParams encryptParams;
+
+    private VaultRequest<?> kv2ReadRequest;
+    private byte[] kv2ReadBody;
+
+    private VaultRequest<?> encryptBatchRequest;
+    private byte[] encryptBatchBody;
+
+    private VaultRequest<?> decryptBatchRequest;
+    private byte[] decryptBatchBody;
+
+    @Setup
+    public void setup() {
+        encryptParams = Fixtures.encryptBatchParams(batchSize);
+
+        var kv2Read = Fixtures.kv2ReadResponse(batchSize);
+        var encryptBatch = Fixtures.encryptBatchResponse(batchSize);
+        var decryptBatch = Fixtures.decryptBatchResponse(batchSize);
+        var executor = new StubExecutor()
+                .respond("/data/", kv2Read)
+                .respond("/encrypt/", encryptBatch)
+                .respond("/decrypt/", decryptBatch);
+        var client = Fixtures.client(executor)
+                .clientToken("vault-token")
+                .build();
+
+        kv2ReadRequest = capture(executor, client.secrets().kv2("secret").readSecret("app/config"));
+        kv2ReadBody = kv2Read.getBytes(UTF_8);
+
+        encryptBatchRequest = capture(executor, client.secrets().transit("transit").encryptBatch("key", encryptParams));
+        encryptBatchBody = encryptBatch.getBytes(UTF_8);
+
+        var decryptParams = new VaultSecretsTransitDecryptBatchParams()
+                .setBatchInput(Fixtures.listOf(batchSize,
+                        i -> new VaultSecretsTransitDecryptBatchItem().setCiphertext(Fixtures.ciphertext(i))));
+        decryptBatchRequest = capture(executor, client.secrets().transit("transit").decryptBatch("key", decryptParams));
+        decryptBatchBody = decryptBatch.getBytes(UTF_8);
+    }
+
+    private static VaultRequest<?> capture(StubExecutor executor, CompletionStage<?> execution) {
+        execution.toCompletableFuture().join();
+        return executor.getLastRequest();
+    }
+
+    @Benchmark
+    public byte[] serializeEncryptBatchParams() throws JsonProcessingException {
+        return JsonMapping.mapper.writeValueAsBytes(encryptParams);
+    }
+
+    @Benchmark
+    public Object deserializeKV2Read() {
+        return new VaultResponse<>(kv2ReadRequest, 200, List.of(), kv2ReadBody).getResult();
+    }
+
+    @Benchmark
+    public Object deserializeEncryptBatchResults() {
+        return new VaultResponse<>(encryptBatchRequest, 200, List.of(), encryptBatchBody).getResult();
+    }
+
+    @Benchmark
+    public Object deserializeDecryptBatchResults() {
+        return new VaultResponse<>(decryptBatchRequest, 200, List.of(), decryptBatchBody).getResult();
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.vault.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks selected on the command line (same options as {@code org.openjdk.jmh.Main}) with the GC
+ * profiler always enabled, so every run reports allocation rates ({@code gc.alloc.rate.norm}) next to timings.
+ */
+public class Main {
+
+    public static void main(String[] args) throws Exception {
+        var options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkus.vault.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.quarkus.vault.client.common.VaultRequest;
+import io.quarkus.vault.client.common.VaultRequestExecutor;
+import io.quarkus.vault.client.common.VaultResponse;
+
+/**
+ * In-process executor answering requests with canned JSON bodies, so benchmarks measure the client pipeline
+ * without any network I/O.
+ */
+public class StubExecutor implements VaultRequestExecutor {
+
+    private static final byte[] EMPTY_BODY = "{}".getBytes(UTF_8);
+
+    private final Map<String, byte[]> responses = new LinkedHashMap<>();
+    private volatile VaultRequest<?> lastRequest;
+
+    /**
+     * Answers requests whose path contains {@code pathFragment} with {@code body}; the first matching fragment,
+     * in registration order, wins. Requests matching no fragment are answered with an empty JSON object.
+     */
+    public StubExecutor respond(String pathFragment, String body) {
+        responses.put(pathFragment, body.getBytes(UTF_8));
+        return this;
+    }
+
+    public VaultRequest<?> getLastRequest() {
+        return lastRequest;
+    }
+
+    @Override
+    public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+        lastRequest = request;
+        return CompletableFuture.completedStage(new VaultResponse<>(request, 200, List.of(), bodyFor(request)));
+    }
+
+    private byte[] bodyFor(VaultRequest<?> request) {
+        var path = request.getPath();
+        for (var response : responses.entrySet()) {
+            if (path.contains(response.getKey())) {
+                return response.getValue();
+            }
+        }
+        return EMPTY_BODY;
+    }
+}
@@ -0,0 +1,58 @@
+package io.quarkus.vault.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.vault.client.VaultClient;
+
+/**
+ * The {@code VaultClient.execute} path of an authenticated KV v2 read, with the token served by a
+ * {@code VaultCachingTokenProvider} after the initial user/pass login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VaultClientExecuteBenchmark {
+
+    private VaultClient client;
+
+    @Setup
+    public void setup() {
+        var executor = new StubExecutor()
+                .respond("/login/", Fixtures.LOGIN_RESPONSE)
+                .respond("/data/", Fixtures.kv2ReadResponse(10));
+        client = Fixtures.client(executor)
+                .userPass("user", "pass")
+                .build();
+        // log in once, subsequent requests use the cached token
+        readSecret();
+    }
+
+    @Benchmark
+    public Map<String, Object> readSecret() {
+        return client.secrets().kv2("secret").readSecret("app/config")
+                .toCompletableFuture().join()
+                .getData();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Map<String, Object> readSecretConcurrently() {
+        return readSecret();
+    }
+}
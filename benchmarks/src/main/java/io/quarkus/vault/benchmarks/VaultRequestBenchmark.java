@@ -0,0 +1,63 @@
+package io.quarkus.vault.benchmarks;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.vault.client.common.VaultRequest;
+import io.quarkus.vault.client.common.VaultStatusResultExtractor;
+
+/**
+ * Building a request the way the generated request factories do, then rebuilding it with the client settings and
+ * resolving the URL, URI and headers the way {@code VaultClient} and the HTTP clients do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VaultRequestBenchmark {
+
+    private URL baseUrl;
+    private VaultRequest<Integer> request;
+
+    @Setup
+    public void setup() throws MalformedURLException {
+        baseUrl = new URL(Fixtures.BASE_URL);
+        request = build();
+    }
+
+    @Benchmark
+    public VaultRequest<Integer> build() {
+        return VaultRequest.get("VAULT [SECRETS (kv2)] Read Secret")
+                .path("secret", "data", "app/config")
+                .queryParam("version", 3)
+                .expectOkStatus()
+                .build(VaultStatusResultExtractor.INSTANCE);
+    }
+
+    @Benchmark
+    public void rebuildAndResolve(Blackhole blackhole) {
+        var rebuilt = request.builder()
+                .baseUrl(baseUrl)
+                .apiVersion("v1")
+                .token("vault-token")
+                .rebuild();
+        blackhole.consume(rebuilt.getUrl());
+        blackhole.consume(rebuilt.getUri());
+        blackhole.consume(rebuilt.getHTTPHeaders());
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkus.vault.benchmarks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.VaultTransitManager;
+import io.quarkus.vault.transit.ClearData;
+import io.quarkus.vault.transit.DecryptionRequest;
+import io.quarkus.vault.transit.EncryptionRequest;
+
+/**
+ * {@link VaultTransitManager} batch operations: building the batch parameters, decoding the batch results and
+ * zipping them back onto the caller's requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VaultTransitManagerBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    int batchSize;
+
+    private VaultTransitManager transitManager;
+    private List<EncryptionRequest> encryptionRequests;
+    private List<DecryptionRequest> decryptionRequests;
+
+    @Setup
+    public void setup() {
+        var executor = new StubExecutor()
+                .respond("/encrypt/", Fixtures.encryptBatchResponse(batchSize))
+                .respond("/decrypt/", Fixtures.decryptBatchResponse(batchSize));
+        var client = Fixtures.client(executor)
+                .clientToken("vault-token")
+                .build();
+        var configHolder = new VaultConfigHolder().setVaultRuntimeConfig(Fixtures.runtimeConfig());
+        transitManager = new VaultTransitManager(client, configHolder);
+
+        encryptionRequests = Fixtures.listOf(batchSize, i -> new EncryptionRequest(new ClearData(Fixtures.plaintext(i))));
+        decryptionRequests = Fixtures.listOf(batchSize, i -> new DecryptionRequest(Fixtures.ciphertext(i)));
+    }
+
+    @Benchmark
+    public Map<EncryptionRequest, String> encryptBatch() {
+        return transitManager.encrypt("key", encryptionRequests).await().indefinitely();
+    }
+
+    @Benchmark
+    public Map<DecryptionRequest, ClearData> decryptBatch() {
+        return transitManager.decrypt("key", decryptionRequests).await().indefinitely();
+    }
+}
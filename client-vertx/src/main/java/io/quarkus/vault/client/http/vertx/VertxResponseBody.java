@@ -0,0 +1,61 @@
+package io.quarkus.vault.client.http.vertx;
+
+import java.io.InputStream;
+
+import io.quarkus.vault.client.common.VaultResponseBody;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Response body backed by the Vert.x buffer the response was received in; parsing streams from the buffer instead
+ * of copying it with {@link Buffer#getBytes()}.
+ */
+class VertxResponseBody extends VaultResponseBody {
+
+    private final Buffer buffer;
+
+    VertxResponseBody(Buffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int length() {
+        return buffer.length();
+    }
+
+    @Override
+    public InputStream openStream() {
+        return new InputStream() {
+
+            private int position;
+
+            @Override
+            public int read() {
+                return position < buffer.length() ? buffer.getByte(position++) & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (len == 0) {
+                    return 0;
+                }
+                var count = Math.min(len, buffer.length() - position);
+                if (count <= 0) {
+                    return -1;
+                }
+                buffer.getBytes(position, position + count, b, off);
+                position += count;
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return buffer.length() - position;
+            }
+        };
+    }
+
+    @Override
+    protected byte[] copyBytes() {
+        return buffer.getBytes();
+    }
+}
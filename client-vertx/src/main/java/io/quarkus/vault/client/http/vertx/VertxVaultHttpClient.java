@@ -44,7 +44,7 @@ public class VertxVaultHttpClient extends VaultHttpClient {
 
     private CompletionStage<HttpResponse<Buffer>> send(VaultRequest<?> request, HttpRequest<Buffer> httpRequest) {
 
-        var send = request.getSerializedBody()
+        var send = request.getSerializedBodyBytes()
                 .map(Buffer::buffer)
                 .map(httpRequest::sendBuffer)
                 .orElseGet(httpRequest::send);
@@ -66,8 +66,8 @@ public class VertxVaultHttpClient extends VaultHttpClient {
 
     private <T> CompletionStage<VaultResponse<T>> buildResponse(VaultRequest<T> request, HttpResponse<Buffer> res) {
         var body = res.body();
-        var bodyData = body != null ? body.getBytes() : null;
-        return buildResponse(request, res.statusCode(), headers(res), bodyData);
+        return buildResponse(request, res.statusCode(), () -> headers(res),
+                body != null ? new VertxResponseBody(body) : null);
     }
 
     private static HttpMethod httpMethodFor(VaultRequest<?> request) {
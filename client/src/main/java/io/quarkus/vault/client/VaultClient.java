@@ -6,10 +6,12 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -19,6 +21,8 @@ import io.quarkus.vault.client.api.VaultAuthAccessor;
 import io.quarkus.vault.client.api.VaultSecretsAccessor;
 import io.quarkus.vault.client.api.VaultSysAccessor;
 import io.quarkus.vault.client.auth.*;
+import io.quarkus.vault.client.common.VaultCachingExecutor;
+import io.quarkus.vault.client.common.VaultCoalescingExecutor;
 import io.quarkus.vault.client.common.VaultRequest;
 import io.quarkus.vault.client.common.VaultRequestExecutor;
 import io.quarkus.vault.client.common.VaultResponse;
@@ -38,6 +42,8 @@ public class VaultClient implements VaultRequestExecutor {
         private LogConfidentialityLevel logConfidentialityLevel;
         private InstantSource instantSource = InstantSource.system();
         private int maxRetries = 2;
+        private ScheduledExecutorService tokenRefreshScheduler;
+        private double tokenRefreshAheadRatio;
 
         public Builder baseUrl(URL baseUrl) {
             this.baseUrl = requireNonNull(baseUrl, "baseUrl is required");
@@ -150,6 +156,32 @@ public class VaultClient implements VaultRequestExecutor {
             return this;
         }
 
+        /**
+         * Enables background refresh of cached tokens.
+         * <p>
+         * When the configured token provider is a {@link VaultCachingTokenProvider}, its token is renewed, or
+         * recreated if it cannot be renewed, ahead of its expiration so that requests never wait on authentication.
+         * <p>
+         * The client then uses a new caching token provider, created from the configured one with
+         * {@link VaultCachingTokenProvider#refreshingAhead(ScheduledExecutorService, double)}, which caches its own
+         * token; the configured instance is not used. Use {@link VaultClient#getTokenProvider()} to access the
+         * provider actually used by the client.
+         *
+         * @param scheduler the scheduler used to run background refreshes
+         * @param refreshAheadRatio the fraction of the token lease duration after which a refresh is scheduled,
+         *        must be greater than 0 and less than 1
+         * @return this builder
+         * @see VaultCachingTokenProvider#refreshingAhead(ScheduledExecutorService, double)
+         */
+        public Builder tokenRefreshAhead(ScheduledExecutorService scheduler, double refreshAheadRatio) {
+            if (refreshAheadRatio <= 0 || refreshAheadRatio >= 1) {
+                throw new IllegalArgumentException("refreshAheadRatio must be greater than 0 and less than 1");
+            }
+            this.tokenRefreshScheduler = requireNonNull(scheduler, "scheduler is required");
+            this.tokenRefreshAheadRatio = refreshAheadRatio;
+            return this;
+        }
+
         public Builder logConfidentialityLevel(LogConfidentialityLevel logConfidentialityLevel) {
             this.logConfidentialityLevel = logConfidentialityLevel != null ? logConfidentialityLevel
                     : LogConfidentialityLevel.HIGH;
@@ -164,6 +196,40 @@ public class VaultClient implements VaultRequestExecutor {
             return this;
         }
 
+        /**
+         * Merges identical concurrent read requests so that they share a single exchange with Vault.
+         *
+         * @return this builder
+         * @see VaultCoalescingExecutor
+         */
+        public Builder coalesceRequests() {
+            requireNonNull(executor, "executor must be configured before coalescing");
+            if (!(executor instanceof VaultCoalescingExecutor)) {
+                executor = new VaultCoalescingExecutor(executor);
+            }
+            return this;
+        }
+
+        /**
+         * Caches read responses of the given mounts.
+         * <p>
+         * Calling this method again replaces the cache, and its settings, configured by the previous call.
+         *
+         * @param mountPaths the mount paths whose read responses are cached
+         * @param maxTtl the maximum time a response is cached, bounding the lease duration returned by Vault
+         * @param maxSize the maximum number of cached responses
+         * @return this builder
+         * @see VaultCachingExecutor
+         */
+        public Builder cacheResponses(Set<String> mountPaths, Duration maxTtl, long maxSize) {
+            requireNonNull(executor, "executor must be configured before caching");
+            if (executor instanceof VaultCachingExecutor cachingExecutor) {
+                executor = cachingExecutor.getDelegate();
+            }
+            executor = new VaultCachingExecutor(executor, mountPaths, maxTtl, maxSize);
+            return this;
+        }
+
         /**
          * Sets the {@link InstantSource} to use for time-based operations.
          * <p>
@@ -200,6 +266,8 @@ public class VaultClient implements VaultRequestExecutor {
     private final String namespace;
     private final InstantSource instantSource;
     private final int maxAttempts;
+    private final ScheduledExecutorService tokenRefreshScheduler;
+    private final double tokenRefreshAheadRatio;
 
     private VaultClient(Builder builder) {
         this.baseUrl = requireNonNull(builder.baseUrl, "baseUrl is required");
@@ -207,10 +275,15 @@ public class VaultClient implements VaultRequestExecutor {
         this.apiVersion = builder.apiVersion;
         this.logConfidentialityLevel = builder.logConfidentialityLevel;
         this.requestTimeout = builder.requestTimeout;
-        this.tokenProvider = builder.tokenProvider;
+        this.tokenProvider = builder.tokenRefreshScheduler != null
+                && builder.tokenProvider instanceof VaultCachingTokenProvider cachingTokenProvider
+                        ? cachingTokenProvider.refreshingAhead(builder.tokenRefreshScheduler, builder.tokenRefreshAheadRatio)
+                        : builder.tokenProvider;
         this.namespace = builder.namespace;
         this.instantSource = builder.instantSource;
         this.maxAttempts = builder.maxRetries + 1;
+        this.tokenRefreshScheduler = builder.tokenRefreshScheduler;
+        this.tokenRefreshAheadRatio = builder.tokenRefreshAheadRatio;
     }
 
     public VaultSecretsAccessor secrets() {
@@ -251,6 +324,13 @@ public class VaultClient implements VaultRequestExecutor {
         return logConfidentialityLevel;
     }
 
+    /**
+     * Returns the token provider used by the client, which is not the configured one when background token
+     * refresh is enabled.
+     *
+     * @return the effective token provider
+     * @see Builder#tokenRefreshAhead(ScheduledExecutorService, double)
+     */
     public VaultTokenProvider getTokenProvider() {
         return tokenProvider;
     }
@@ -259,6 +339,29 @@ public class VaultClient implements VaultRequestExecutor {
         return namespace;
     }
 
+    /**
+     * Returns the client token that would be applied to a request for the given operation, for connections that
+     * are not made through the client (e.g. event subscriptions over WebSocket). Completes with {@code null} if
+     * the client has no token provider.
+     */
+    public CompletionStage<String> getClientToken(String operation) {
+        if (tokenProvider == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        var requestBuilder = VaultRequest.get(operation).baseUrl(baseUrl);
+        if (apiVersion != null) {
+            requestBuilder.apiVersion(apiVersion);
+        }
+        if (logConfidentialityLevel != null) {
+            requestBuilder.logConfidentialityLevel(logConfidentialityLevel);
+        }
+        if (namespace != null) {
+            requestBuilder.namespace(namespace);
+        }
+        return tokenProvider.apply(VaultAuthRequest.of(this, requestBuilder.build(), instantSource))
+                .thenApply(token -> token != null ? token.getClientTokenForUsage() : null);
+    }
+
     @Override
     public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
 
@@ -361,6 +464,8 @@ public class VaultClient implements VaultRequestExecutor {
         builder.namespace = namespace;
         builder.requestTimeout = requestTimeout;
         builder.logConfidentialityLevel = logConfidentialityLevel;
+        builder.tokenRefreshScheduler = tokenRefreshScheduler;
+        builder.tokenRefreshAheadRatio = tokenRefreshAheadRatio;
         return builder;
     }
 
@@ -2,13 +2,24 @@ package io.quarkus.vault.client.auth;
 
 import static io.quarkus.vault.client.util.OptionalCompletionStages.flatMapEmptyGet;
 import static io.quarkus.vault.client.util.OptionalCompletionStages.flatMapPresent;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import io.quarkus.vault.client.VaultClientException;
@@ -19,25 +30,95 @@ public class VaultCachingTokenProvider implements VaultTokenProvider {
 
     public static Duration DEFAULT_RENEW_GRACE_PERIOD = Duration.ofSeconds(30);
 
+    private static final long MIN_REFRESH_DELAY_MILLIS = 1000;
+
     private static final Logger log = Logger.getLogger(VaultCachingTokenProvider.class.getName());
 
     private final VaultTokenProvider delegate;
     private final Duration renewGracePeriod;
     private final AtomicReference<VaultToken> cachedToken = new AtomicReference<>(null);
+    private final AtomicReference<CompletableFuture<VaultToken>> inFlightToken = new AtomicReference<>(null);
+    private final AtomicLong coalescedRequests = new AtomicLong();
+    private final ScheduledExecutorService refreshScheduler;
+    private final double refreshAheadRatio;
+    private final AtomicReference<ScheduledFuture<?>> scheduledRefresh = new AtomicReference<>(null);
 
     public VaultCachingTokenProvider(VaultTokenProvider delegate, Duration renewGracePeriod) {
+        this(delegate, renewGracePeriod, null, 0);
+    }
+
+    /**
+     * Creates a caching token provider that proactively renews (or recreates) the cached token in the background.
+     * <p>
+     * The refresh is scheduled once {@code refreshAheadRatio} of the token's lease duration has elapsed, and no later
+     * than {@code renewGracePeriod} before the token expires, minus a small random jitter.
+     *
+     * @param delegate the token provider used to log in
+     * @param renewGracePeriod the period before expiration during which the token is renewed
+     * @param refreshScheduler the scheduler used to run background refreshes, or {@code null} to disable them
+     * @param refreshAheadRatio the fraction of the lease duration after which a refresh is scheduled, between 0 and 1
+     */
+    public VaultCachingTokenProvider(VaultTokenProvider delegate, Duration renewGracePeriod,
+            ScheduledExecutorService refreshScheduler, double refreshAheadRatio) {
+        if (refreshScheduler != null && (refreshAheadRatio <= 0 || refreshAheadRatio >= 1)) {
+            throw new IllegalArgumentException("refreshAheadRatio must be greater than 0 and less than 1");
+        }
         this.delegate = delegate;
         this.renewGracePeriod = renewGracePeriod;
+        this.refreshScheduler = refreshScheduler;
+        this.refreshAheadRatio = refreshAheadRatio;
+    }
+
+    /**
+     * Returns a caching token provider, for the same delegate, that refreshes its token in the background.
+     *
+     * @param refreshScheduler the scheduler used to run background refreshes
+     * @param refreshAheadRatio the fraction of the lease duration after which a refresh is scheduled, between 0 and 1
+     * @return the refreshing caching token provider
+     * @see #VaultCachingTokenProvider(VaultTokenProvider, Duration, ScheduledExecutorService, double)
+     */
+    public VaultCachingTokenProvider refreshingAhead(ScheduledExecutorService refreshScheduler, double refreshAheadRatio) {
+        if (this.refreshScheduler == refreshScheduler && this.refreshAheadRatio == refreshAheadRatio) {
+            return this;
+        }
+        return new VaultCachingTokenProvider(delegate, renewGracePeriod, refreshScheduler, refreshAheadRatio);
     }
 
     public Optional<VaultToken> getCachedToken() {
         return Optional.ofNullable(cachedToken.get());
     }
 
+    /**
+     * Returns the number of token requests that joined an in-flight login or renewal instead
+     * of starting their own.
+     *
+     * @return the number of coalesced token requests
+     */
+    public long getCoalescedRequestCount() {
+        return coalescedRequests.get();
+    }
+
     @Override
     public CompletionStage<VaultToken> apply(VaultAuthRequest authRequest) {
 
-        var cachedToken = getCachedToken()
+        var cachedToken = usableCachedToken(authRequest);
+        if (cachedToken.isPresent() && !cachedToken.get().shouldExtend(renewGracePeriod)) {
+            return CompletableFuture.completedStage(cachedToken.get());
+        }
+
+        // login or extend; concurrent callers share a single in-flight request
+        return singleFlight(() -> {
+            // a request that completed since the token was read may have cached a new token
+            var currentToken = usableCachedToken(authRequest);
+            if (currentToken.isPresent() && !currentToken.get().shouldExtend(renewGracePeriod)) {
+                return CompletableFuture.completedStage(currentToken.get());
+            }
+            return obtain(authRequest, currentToken);
+        });
+    }
+
+    private Optional<VaultToken> usableCachedToken(VaultAuthRequest authRequest) {
+        return getCachedToken()
                 .map(token -> {
                     var logLevel = authRequest.getRequest().getLogConfidentialityLevel();
                     if (!token.hasAllowedUsesRemaining()) {
@@ -52,27 +133,101 @@ public class VaultCachingTokenProvider implements VaultTokenProvider {
                             + token.getExpiresAt() + ")");
                     return token;
                 });
+    }
 
-        return CompletableFuture.completedStage(cachedToken)
-                // if present, extend token if necessary
-                .thenCompose(flatMapPresent(token -> {
-                    if (token.shouldExtend(renewGracePeriod)) {
-                        return extend(authRequest, token.getClientToken());
-                    }
-                    return CompletableFuture.completedStage(token);
-                }))
+    @Override
+    public void invalidateCache() {
+        cachedToken.set(null);
+        var refresh = scheduledRefresh.getAndSet(null);
+        if (refresh != null) {
+            refresh.cancel(false);
+        }
+    }
+
+    private CompletionStage<VaultToken> obtain(VaultAuthRequest authRequest, Optional<VaultToken> currentToken) {
+        return CompletableFuture.completedStage(currentToken)
+                // if present, extend token
+                .thenCompose(flatMapPresent(token -> extend(authRequest, token.getClientToken())))
                 // if empty, request new token from delegate
                 .thenCompose(flatMapEmptyGet(() -> request(authRequest)))
                 // cache token
                 .thenApply(vaultToken -> {
                     this.cachedToken.set(vaultToken.cached());
+                    scheduleRefresh(authRequest, vaultToken);
                     return vaultToken;
                 });
     }
 
-    @Override
-    public void invalidateCache() {
-        cachedToken.set(null);
+    private void scheduleRefresh(VaultAuthRequest authRequest, VaultToken token) {
+        if (refreshScheduler == null) {
+            return;
+        }
+
+        long delay;
+        try {
+            var leaseMillis = token.getLeaseDuration().toMillis();
+            var refreshAfter = (long) (leaseMillis * refreshAheadRatio);
+            if (leaseMillis > renewGracePeriod.toMillis()) {
+                refreshAfter = min(refreshAfter, leaseMillis - renewGracePeriod.toMillis());
+            }
+            var elapsed = token.getCreated().until(token.getInstantSource().instant(), MILLIS);
+            delay = refreshAfter - elapsed;
+            delay -= ThreadLocalRandom.current().nextLong(max(delay, 0) / 10 + 1);
+            delay = max(delay, MIN_REFRESH_DELAY_MILLIS);
+        } catch (ArithmeticException | DateTimeException e) {
+            // lease too long to be scheduled, i.e. the token practically never expires
+            return;
+        }
+
+        log.fine("scheduling background token refresh in " + delay + "ms");
+        ScheduledFuture<?> next;
+        try {
+            next = refreshScheduler.schedule(() -> refresh(authRequest), delay, MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.fine("background token refresh not scheduled, scheduler has been shut down");
+            return;
+        }
+        var previous = scheduledRefresh.getAndSet(next);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void refresh(VaultAuthRequest authRequest) {
+        var currentToken = getCachedToken()
+                .filter(token -> token.isRenewable() && token.isValid());
+        singleFlight(() -> obtain(authRequest, currentToken))
+                .whenComplete((token, error) -> {
+                    if (error != null) {
+                        log.warning("background token refresh failed, token will be refreshed on next request: " + error);
+                    }
+                });
+    }
+
+    private CompletionStage<VaultToken> singleFlight(Supplier<CompletionStage<VaultToken>> tokenSupplier) {
+        var promise = new CompletableFuture<VaultToken>();
+        var inFlight = inFlightToken.compareAndExchange(null, promise);
+        if (inFlight != null) {
+            coalescedRequests.incrementAndGet();
+            log.fine("joining in-flight token request");
+            return inFlight.minimalCompletionStage();
+        }
+
+        CompletionStage<VaultToken> tokenStage;
+        try {
+            tokenStage = tokenSupplier.get();
+        } catch (Throwable t) {
+            tokenStage = CompletableFuture.failedStage(t);
+        }
+        tokenStage.whenComplete((token, error) -> {
+            inFlightToken.compareAndSet(promise, null);
+            if (error != null) {
+                promise.completeExceptionally(error);
+            } else {
+                promise.complete(token);
+            }
+        });
+        return promise.minimalCompletionStage();
     }
 
     @Override
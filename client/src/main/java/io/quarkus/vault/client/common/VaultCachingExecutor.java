@@ -0,0 +1,203 @@
+package io.quarkus.vault.client.common;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.quarkus.vault.client.json.JsonMapping;
+
+/**
+ * Executor that caches successful read responses for opted-in mounts.
+ * <p>
+ * Only read requests ({@code GET}, {@code LIST} and {@code HEAD}) targeting one of the configured mount paths are
+ * cached; requests asking for response wrapping are never cached. Each entry lives for the {@code lease_duration}
+ * returned by Vault, capped by the configured maximum TTL; responses without a lease live for the maximum TTL. The
+ * cache is size bounded and evicts entries using Caffeine's W-TinyLFU policy.
+ * <p>
+ * Any other request (e.g. a write or delete) sent through this executor to an opted-in mount invalidates all the
+ * cached responses of that mount. Changes made by other clients are only observed once entries expire.
+ */
+public class VaultCachingExecutor implements VaultRequestExecutor {
+
+    private static final Logger log = Logger.getLogger(VaultCachingExecutor.class.getName());
+
+    private record RequestKey(String mountPath, Optional<String> namespace, VaultRequest.Method method, String operation,
+            String url, Map<String, String> headers, Optional<String> token) {
+    }
+
+    private record CachedResponse(int statusCode, List<Entry<String, String>> headers, byte[] body, long ttlNanos) {
+    }
+
+    private final VaultRequestExecutor delegate;
+    private final Duration maxTtl;
+    private final Set<String> mountPaths;
+    private final Cache<RequestKey, CachedResponse> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates a caching executor.
+     *
+     * @param delegate the executor used for requests that are not served from the cache
+     * @param mountPaths the mount paths (e.g. {@code secret}) whose read responses are cached
+     * @param maxTtl the maximum time a response is cached
+     * @param maxSize the maximum number of cached responses
+     */
+    public VaultCachingExecutor(VaultRequestExecutor delegate, Set<String> mountPaths, Duration maxTtl, long maxSize) {
+        this.delegate = delegate;
+        this.maxTtl = maxTtl;
+        this.mountPaths = mountPaths.stream()
+                .map(VaultCachingExecutor::trimSlashes)
+                .filter(mountPath -> !mountPath.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<RequestKey, CachedResponse>() {
+                    @Override
+                    public long expireAfterCreate(RequestKey key, CachedResponse value, long currentTime) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(RequestKey key, CachedResponse value, long currentTime,
+                            long currentDuration) {
+                        return value.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(RequestKey key, CachedResponse value, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public VaultRequestExecutor getDelegate() {
+        return delegate;
+    }
+
+    public Set<String> getMountPaths() {
+        return mountPaths;
+    }
+
+    /**
+     * Invalidates all cached responses.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Invalidates all cached responses of a mount, in any namespace.
+     *
+     * @param mountPath the mount path
+     */
+    public void invalidate(String mountPath) {
+        var normalizedMountPath = trimSlashes(mountPath);
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> key.mountPath().equals(normalizedMountPath));
+    }
+
+    @Override
+    public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+        var mountPath = findMountPath(request.getPath());
+        if (mountPath == null) {
+            return delegate.execute(request);
+        }
+
+        if (!isRead(request)) {
+            generation.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> key.mountPath().equals(mountPath)
+                    && key.namespace().equals(request.getNamespace()));
+            return delegate.execute(request);
+        }
+
+        if (request.getWrapTTL().map(ttl -> !ttl.isZero()).orElse(false)) {
+            // wrapped responses are single use
+            return delegate.execute(request);
+        }
+
+        var key = new RequestKey(mountPath, request.getNamespace(), request.getMethod(), request.getOperation(),
+                request.getUrl().toString(), request.getHeaders(), request.getToken());
+
+        var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            log.finer(() -> "Serving request " + request.getOperation() + " from cache");
+            return CompletableFuture.completedStage(
+                    new VaultResponse<>(request, cached.statusCode(), cached.headers(), cached.body()));
+        }
+
+        var requestGeneration = generation.get();
+        return delegate.execute(request)
+                .thenApply(response -> {
+                    if (response.isSuccessful() && generation.get() == requestGeneration) {
+                        var body = response.getBody().orElse(null);
+                        var ttl = getTtl(body);
+                        if (!ttl.isZero()) {
+                            cache.put(key, new CachedResponse(response.getStatusCode(), response.getHeaders(), body,
+                                    ttl.toNanos()));
+                        }
+                    }
+                    return response;
+                });
+    }
+
+    private Duration getTtl(byte[] body) {
+        if (body == null) {
+            return maxTtl;
+        }
+        try {
+            var leaseDuration = JsonMapping.mapper.readTree(body).path("lease_duration").asLong(0);
+            if (leaseDuration > 0 && leaseDuration < maxTtl.toSeconds()) {
+                return Duration.ofSeconds(leaseDuration);
+            }
+        } catch (Exception e) {
+            // not a JSON response, cache for the maximum TTL
+        }
+        return maxTtl;
+    }
+
+    private String findMountPath(String path) {
+        if (path == null || mountPaths.isEmpty()) {
+            return null;
+        }
+        var normalizedPath = trimSlashes(path);
+        for (var mountPath : mountPaths) {
+            if (normalizedPath.equals(mountPath) || normalizedPath.startsWith(mountPath + "/")) {
+                return mountPath;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isRead(VaultRequest<?> request) {
+        var method = request.getMethod();
+        return method == VaultRequest.Method.GET || method == VaultRequest.Method.LIST
+                || method == VaultRequest.Method.HEAD;
+    }
+
+    private static String trimSlashes(String path) {
+        var start = 0;
+        var end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end);
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.vault.client.common;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Executor that merges identical concurrent read requests so that they share a single exchange with Vault.
+ * <p>
+ * Only {@link VaultRequest.Method#GET GET} and {@link VaultRequest.Method#LIST LIST} requests are coalesced; two
+ * requests are identical when they have the same operation, method, URL, headers, namespace and token. Requests
+ * asking for response wrapping are never coalesced, as each caller must receive its own wrapping token.
+ * <p>
+ * Callers joining an in-flight request receive the same status code, headers and body as the original caller,
+ * bound to their own request.
+ */
+public class VaultCoalescingExecutor implements VaultRequestExecutor {
+
+    private static final Logger log = Logger.getLogger(VaultCoalescingExecutor.class.getName());
+
+    private record RequestKey(VaultRequest.Method method, String operation, String url, Map<String, String> headers,
+            Optional<String> namespace, Optional<String> token) {
+
+        static RequestKey of(VaultRequest<?> request) {
+            return new RequestKey(request.getMethod(), request.getOperation(), request.getUrl().toString(),
+                    request.getHeaders(), request.getNamespace(), request.getToken());
+        }
+    }
+
+    private final VaultRequestExecutor delegate;
+    private final ConcurrentHashMap<RequestKey, CompletableFuture<VaultResponse<?>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalescedRequests = new AtomicLong();
+
+    public VaultCoalescingExecutor(VaultRequestExecutor delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the number of requests that joined an in-flight request instead of being sent to Vault.
+     *
+     * @return the number of coalesced requests
+     */
+    public long getCoalescedRequestCount() {
+        return coalescedRequests.get();
+    }
+
+    @Override
+    public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+        if (!isCoalescable(request)) {
+            return delegate.execute(request);
+        }
+
+        var key = RequestKey.of(request);
+        var promise = new CompletableFuture<VaultResponse<?>>();
+        var existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            coalescedRequests.incrementAndGet();
+            log.finer(() -> "Joining in-flight request " + request.getOperation());
+            return existing.thenApply(response -> rebind(request, response));
+        }
+
+        CompletionStage<VaultResponse<T>> execution;
+        try {
+            execution = delegate.execute(request);
+        } catch (Throwable t) {
+            execution = CompletableFuture.failedStage(t);
+        }
+        execution.whenComplete((response, error) -> {
+            inFlight.remove(key, promise);
+            if (error != null) {
+                promise.completeExceptionally(error);
+            } else {
+                promise.complete(response);
+            }
+        });
+        return promise.thenApply(response -> rebind(request, response));
+    }
+
+    private static boolean isCoalescable(VaultRequest<?> request) {
+        var method = request.getMethod();
+        return (method == VaultRequest.Method.GET || method == VaultRequest.Method.LIST)
+                && request.getWrapTTL().map(Duration::isZero).orElse(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> VaultResponse<T> rebind(VaultRequest<T> request, VaultResponse<?> response) {
+        if (response.getRequest() == request) {
+            return (VaultResponse<T>) response;
+        }
+        return response.withRequest(request);
+    }
+}
@@ -25,9 +25,9 @@ public class VaultJSONResultExtractor<T> implements VaultResultExtractor<T> {
     }
 
     public static <T> Optional<T> extract(VaultResponse<T> response, Class<T> resultClass) {
-        return response.getBody().map(body -> {
+        return response.getResponseBody().map(body -> {
             try {
-                return JsonMapping.mapper.readValue(body, resultClass);
+                return body.readValue(JsonMapping.mapper, resultClass);
             } catch (IOException e) {
                 List<String> errors;
                 if (e.getMessage() != null && !e.getMessage().isBlank()) {
@@ -27,6 +27,27 @@ public class VaultRequest<T> {
         LIST
     }
 
+    /**
+     * Lazily computed value (the URL or the serialized body) shared by a builder and all the requests built from it,
+     * so that it is computed once however many times the request is rebuilt. A builder changing a property the value
+     * depends on gets a new holder.
+     */
+    private static final class Shared<V> {
+        private volatile V value;
+    }
+
+    // enums declaring toString, as generated enums do, render their serialized value
+    private static final ClassValue<Boolean> TO_STRING_ENUMS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("toString").getDeclaringClass() != Enum.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     public static List<Integer> OK_STATUS = List.of(200);
     public static List<Integer> NO_CONTENT_STATUS = List.of(204);
     public static List<Integer> ACCEPTED_STATUS = List.of(202);
@@ -44,6 +65,10 @@ public class VaultRequest<T> {
         private Optional<Duration> wrapTTL;
         private Map<String, String> queryParams = new LinkedHashMap<>();
         private Map<String, String> headers = new LinkedHashMap<>();
+        private boolean sharedQueryParams;
+        private boolean sharedHeaders;
+        private Shared<URL> url = new Shared<>();
+        private Shared<byte[]> serializedBody = new Shared<>();
         private Object body;
         private VaultResultExtractor<?> resultExtractor;
         private List<Integer> expectedStatusCodes = List.of();
@@ -56,17 +81,25 @@ public class VaultRequest<T> {
         }
 
         public Builder<T> baseUrl(URL baseUrl) {
-            this.baseUrl = baseUrl;
+            // identity check, URL.equals may resolve host names
+            if (this.baseUrl != baseUrl) {
+                this.baseUrl = baseUrl;
+                this.url = new Shared<>();
+            }
             return this;
         }
 
         public Builder<T> apiVersion(String apiVersion) {
-            this.apiVersion = apiVersion;
+            if (!Objects.equals(this.apiVersion, apiVersion)) {
+                this.apiVersion = apiVersion;
+                this.url = new Shared<>();
+            }
             return this;
         }
 
         public Builder<T> path(Object... pathSegments) {
             this.path = joinPath(pathSegments);
+            this.url = new Shared<>();
             return this;
         }
 
@@ -109,8 +142,12 @@ public class VaultRequest<T> {
 
         public Builder<T> queryParam(String key, Object value) {
             Objects.requireNonNull(key, "key is required");
-            var valueStr = JsonMapping.mapper.convertValue(value, String.class);
-            queryParams.put(key, valueStr);
+            if (sharedQueryParams) {
+                queryParams = new LinkedHashMap<>(queryParams);
+                sharedQueryParams = false;
+            }
+            queryParams.put(key, stringValue(value));
+            url = new Shared<>();
             return this;
         }
 
@@ -124,8 +161,11 @@ public class VaultRequest<T> {
         public Builder<T> header(String key, Object value) {
             Objects.requireNonNull(key, "key is required");
             Objects.requireNonNull(value, "value is required");
-            var valueStr = JsonMapping.mapper.convertValue(value, String.class);
-            this.headers.put(key, valueStr);
+            if (sharedHeaders) {
+                headers = new LinkedHashMap<>(headers);
+                sharedHeaders = false;
+            }
+            headers.put(key, stringValue(value));
             return this;
         }
 
@@ -137,7 +177,10 @@ public class VaultRequest<T> {
         }
 
         public Builder<T> body(Object body) {
-            this.body = body;
+            if (this.body != body) {
+                this.body = body;
+                this.serializedBody = new Shared<>();
+            }
             return this;
         }
 
@@ -209,6 +252,10 @@ public class VaultRequest<T> {
     private final List<Integer> expectedStatusCodes;
     private final Duration timeout;
     private final LogConfidentialityLevel logConfidentialityLevel;
+    private final Shared<URL> url;
+    private volatile URI uri;
+    private volatile Map<String, String> httpHeaders;
+    private final Shared<byte[]> serializedBody;
 
     @SuppressWarnings("unchecked")
     private VaultRequest(Builder<?> builder) {
@@ -227,6 +274,8 @@ public class VaultRequest<T> {
         this.timeout = builder.timeout;
         this.logConfidentialityLevel = builder.logConfidentialityLevel;
         this.resultExtractor = (VaultResultExtractor<T>) builder.resultExtractor;
+        this.url = builder.url;
+        this.serializedBody = builder.serializedBody;
     }
 
     public URL getBaseUrl() {
@@ -296,14 +345,32 @@ public class VaultRequest<T> {
     }
 
     public Optional<String> getSerializedBody() {
+        return getSerializedBodyBytes().map(bytes -> new String(bytes, UTF_8));
+    }
+
+    /**
+     * Returns the body serialized as UTF-8 encoded JSON.
+     * <p>
+     * The body is serialized once, and the result is shared with the requests rebuilt from the same builder or from
+     * this request (e.g. every attempt of {@code VaultClient.execute}), as long as their body is not changed. The
+     * returned array must not be modified.
+     *
+     * @return the serialized body, or empty if the request has no body
+     */
+    public Optional<byte[]> getSerializedBodyBytes() {
         if (body == null) {
             return Optional.empty();
         }
-        try {
-            return Optional.of(JsonMapping.mapper.writeValueAsString(body));
-        } catch (Exception e) {
-            throw new VaultClientException(this, null, List.of("Failed to serialize request body"), null);
+        var bytes = serializedBody.value;
+        if (bytes == null) {
+            try {
+                bytes = JsonMapping.mapper.writeValueAsBytes(body);
+            } catch (Exception e) {
+                throw new VaultClientException(this, null, List.of("Failed to serialize request body"), null);
+            }
+            serializedBody.value = bytes;
         }
+        return Optional.of(bytes);
     }
 
     public VaultResultExtractor<T> getResultExtractor() {
@@ -319,6 +386,15 @@ public class VaultRequest<T> {
     }
 
     public URL getUrl() {
+        var url = this.url.value;
+        if (url == null) {
+            url = buildUrl();
+            this.url.value = url;
+        }
+        return url;
+    }
+
+    private URL buildUrl() {
         if (baseUrl == null) {
             throw new IllegalStateException("baseUrl is not set");
         }
@@ -335,16 +411,31 @@ public class VaultRequest<T> {
         }
     }
 
+    /**
+     * Returns all headers to send with the request, including the token, namespace and wrap TTL headers.
+     *
+     * @return an unmodifiable map of the HTTP headers
+     */
     public Map<String, String> getHTTPHeaders() {
-        var allHeaders = new HashMap<>(headers);
-        getToken().ifPresent(token -> allHeaders.put(X_VAULT_TOKEN, token));
-        getNamespace().ifPresent(namespace -> allHeaders.put(X_VAULT_NAMESPACE, namespace));
-        getWrapTTL().ifPresent(wrapTTL -> allHeaders.put(X_VAULT_WRAP_TTL, String.valueOf(wrapTTL.toSeconds())));
-        return allHeaders;
+        var httpHeaders = this.httpHeaders;
+        if (httpHeaders == null) {
+            var allHeaders = new HashMap<>(headers);
+            getToken().ifPresent(token -> allHeaders.put(X_VAULT_TOKEN, token));
+            getNamespace().ifPresent(namespace -> allHeaders.put(X_VAULT_NAMESPACE, namespace));
+            getWrapTTL().ifPresent(wrapTTL -> allHeaders.put(X_VAULT_WRAP_TTL, String.valueOf(wrapTTL.toSeconds())));
+            httpHeaders = Collections.unmodifiableMap(allHeaders);
+            this.httpHeaders = httpHeaders;
+        }
+        return httpHeaders;
     }
 
     public URI getUri() {
-        return URI.create(getUrl().toString());
+        var uri = this.uri;
+        if (uri == null) {
+            uri = URI.create(getUrl().toString());
+            this.uri = uri;
+        }
+        return uri;
     }
 
     private String getQueryParamsString() {
@@ -375,7 +466,11 @@ public class VaultRequest<T> {
         builder.namespace = namespace;
         builder.wrapTTL = wrapTTL;
         builder.queryParams = queryParams;
+        builder.sharedQueryParams = true;
         builder.headers = headers;
+        builder.sharedHeaders = true;
+        builder.url = url;
+        builder.serializedBody = serializedBody;
         builder.body = body;
         builder.expectedStatusCodes = expectedStatusCodes;
         builder.timeout = timeout;
@@ -417,12 +512,34 @@ public class VaultRequest<T> {
     }
 
     private static String joinPath(Object... pathSegments) {
-        return Arrays.stream(pathSegments)
-                .filter(Objects::nonNull)
-                .map(s -> JsonMapping.mapper.convertValue(s, String.class))
-                .map(s -> s.startsWith("/") ? s.substring(1) : s)
-                .map(s -> s.endsWith("/") ? s.substring(0, s.length() - 1) : s)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.joining("/"));
+        var joined = new StringBuilder();
+        for (var pathSegment : pathSegments) {
+            if (pathSegment == null) {
+                continue;
+            }
+            var segment = stringValue(pathSegment);
+            var start = segment.startsWith("/") ? 1 : 0;
+            var end = segment.length() > start && segment.endsWith("/") ? segment.length() - 1 : segment.length();
+            if (start >= end) {
+                continue;
+            }
+            if (!joined.isEmpty()) {
+                joined.append('/');
+            }
+            joined.append(segment, start, end);
+        }
+        return joined.toString();
+    }
+
+    private static String stringValue(Object value) {
+        if (value == null || value instanceof String) {
+            return (String) value;
+        } else if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return value.toString();
+        } else if (value instanceof Enum<?> enumValue && value instanceof VaultModel
+                && TO_STRING_ENUMS.get(enumValue.getDeclaringClass())) {
+            return value.toString();
+        }
+        return JsonMapping.mapper.convertValue(value, String.class);
     }
 }
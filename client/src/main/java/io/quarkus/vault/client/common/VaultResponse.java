@@ -1,8 +1,11 @@
 package io.quarkus.vault.client.common;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class VaultResponse<T> {
 
@@ -10,14 +13,33 @@ public class VaultResponse<T> {
 
     private final int statusCode;
 
-    private final List<Entry<String, String>> headers;
+    private final Supplier<List<Entry<String, String>>> headersSupplier;
+
+    private volatile List<Entry<String, String>> headers;
 
-    private final byte[] body;
+    private final VaultResponseBody body;
 
     public VaultResponse(VaultRequest<T> request, int statusCode, List<Entry<String, String>> headers, byte[] body) {
         this.request = request;
         this.statusCode = statusCode;
+        this.headersSupplier = null;
         this.headers = headers != null ? headers : List.of();
+        this.body = body != null ? VaultResponseBody.of(body) : null;
+    }
+
+    /**
+     * Creates a response whose headers are only materialized when first accessed.
+     *
+     * @param request the request
+     * @param statusCode the HTTP status code
+     * @param headers supplier of the response headers, called at most once
+     * @param body the response body, or {@code null} if there is none
+     */
+    public VaultResponse(VaultRequest<T> request, int statusCode, Supplier<List<Entry<String, String>>> headers,
+            VaultResponseBody body) {
+        this.request = request;
+        this.statusCode = statusCode;
+        this.headersSupplier = headers;
         this.body = body;
     }
 
@@ -30,11 +52,26 @@ public class VaultResponse<T> {
     }
 
     public List<Entry<String, String>> getHeaders() {
+        var headers = this.headers;
+        if (headers == null) {
+            headers = headersSupplier != null ? headersSupplier.get() : null;
+            headers = headers != null ? headers : List.of();
+            this.headers = headers;
+        }
         return headers;
     }
 
     public Optional<byte[]> getBody() {
-        if (body == null || body.length == 0) {
+        return getResponseBody().map(VaultResponseBody::toByteArray);
+    }
+
+    /**
+     * Returns the body as received by the transport, allowing it to be parsed without materializing a byte array.
+     *
+     * @return the response body, or empty if there is none
+     */
+    public Optional<VaultResponseBody> getResponseBody() {
+        if (body == null || body.length() == 0) {
             return Optional.empty();
         }
         return Optional.of(body);
@@ -59,6 +96,16 @@ public class VaultResponse<T> {
     }
 
     public Optional<String> getBodyAsString() {
-        return Optional.ofNullable(body).map(String::new);
+        return getBody().map(bytes -> new String(bytes, UTF_8));
+    }
+
+    /**
+     * Returns a response with the same status, headers and body, bound to another request.
+     *
+     * @param request the request to bind the response to
+     * @return the rebound response
+     */
+    public <U> VaultResponse<U> withRequest(VaultRequest<U> request) {
+        return new VaultResponse<>(request, statusCode, this::getHeaders, body);
     }
 }
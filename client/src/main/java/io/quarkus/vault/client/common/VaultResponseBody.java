@@ -0,0 +1,189 @@
+package io.quarkus.vault.client.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Body of a {@link VaultResponse}, as received by the HTTP transport.
+ * <p>
+ * Transports hand over the body in the form they received it (e.g. a list of network buffers) so that it can be
+ * parsed directly, without first being copied into a single byte array. The byte array form is only created, once,
+ * when it is explicitly requested.
+ */
+public abstract class VaultResponseBody {
+
+    private volatile byte[] bytes;
+
+    public static VaultResponseBody of(byte[] bytes) {
+        return new ByteArrayBody(bytes);
+    }
+
+    public static VaultResponseBody of(List<ByteBuffer> buffers) {
+        return new ByteBuffersBody(buffers);
+    }
+
+    /**
+     * Returns the length of the body in bytes.
+     *
+     * @return the body length
+     */
+    public abstract int length();
+
+    /**
+     * Opens a new stream over the body.
+     *
+     * @return a stream reading the body from its start
+     */
+    public abstract InputStream openStream();
+
+    /**
+     * Parses the body as JSON.
+     *
+     * @param mapper the mapper used to parse the body
+     * @param type the type to parse the body as
+     * @return the parsed body
+     * @throws IOException if the body cannot be parsed
+     */
+    public <T> T readValue(ObjectMapper mapper, Class<T> type) throws IOException {
+        try (var stream = openStream()) {
+            return mapper.readValue(stream, type);
+        }
+    }
+
+    /**
+     * Returns the body as a byte array; the array is created on first access and must not be modified.
+     *
+     * @return the body bytes
+     */
+    public byte[] toByteArray() {
+        var bytes = this.bytes;
+        if (bytes == null) {
+            bytes = copyBytes();
+            this.bytes = bytes;
+        }
+        return bytes;
+    }
+
+    protected abstract byte[] copyBytes();
+
+    private static final class ByteArrayBody extends VaultResponseBody {
+
+        private final byte[] body;
+
+        ByteArrayBody(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public int length() {
+            return body.length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public <T> T readValue(ObjectMapper mapper, Class<T> type) throws IOException {
+            return mapper.readValue(body, type);
+        }
+
+        @Override
+        public byte[] toByteArray() {
+            return body;
+        }
+
+        @Override
+        protected byte[] copyBytes() {
+            return body;
+        }
+    }
+
+    private static final class ByteBuffersBody extends VaultResponseBody {
+
+        private final List<ByteBuffer> buffers;
+        private final int length;
+
+        ByteBuffersBody(List<ByteBuffer> buffers) {
+            this.buffers = List.copyOf(buffers);
+            this.length = this.buffers.stream().mapToInt(ByteBuffer::remaining).sum();
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public InputStream openStream() {
+            if (buffers.size() == 1 && buffers.get(0).hasArray()) {
+                var buffer = buffers.get(0);
+                return new ByteArrayInputStream(buffer.array(), buffer.arrayOffset() + buffer.position(),
+                        buffer.remaining());
+            }
+            return new ByteBuffersInputStream(buffers);
+        }
+
+        @Override
+        protected byte[] copyBytes() {
+            var bytes = new byte[length];
+            var offset = 0;
+            for (var buffer : buffers) {
+                var remaining = buffer.remaining();
+                buffer.duplicate().get(bytes, offset, remaining);
+                offset += remaining;
+            }
+            return bytes;
+        }
+    }
+
+    private static final class ByteBuffersInputStream extends InputStream {
+
+        private final List<ByteBuffer> buffers;
+        private int index;
+        private ByteBuffer current;
+
+        ByteBuffersInputStream(List<ByteBuffer> buffers) {
+            this.buffers = buffers;
+        }
+
+        private ByteBuffer current() {
+            while ((current == null || !current.hasRemaining()) && index < buffers.size()) {
+                current = buffers.get(index++).duplicate();
+            }
+            return current != null && current.hasRemaining() ? current : null;
+        }
+
+        @Override
+        public int read() {
+            var buffer = current();
+            return buffer != null ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            var buffer = current();
+            if (buffer == null) {
+                return -1;
+            }
+            var count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            var buffer = current();
+            return buffer != null ? buffer.remaining() : 0;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
+import java.util.function.Supplier;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
@@ -15,6 +16,7 @@ import io.quarkus.vault.client.common.VaultErrorResponse;
 import io.quarkus.vault.client.common.VaultRequest;
 import io.quarkus.vault.client.common.VaultRequestExecutor;
 import io.quarkus.vault.client.common.VaultResponse;
+import io.quarkus.vault.client.common.VaultResponseBody;
 import io.quarkus.vault.client.json.JsonMapping;
 
 public abstract class VaultHttpClient implements VaultRequestExecutor, AutoCloseable {
@@ -25,12 +27,22 @@ public abstract class VaultHttpClient implements VaultRequestExecutor, AutoClose
 
     protected <T> CompletionStage<VaultResponse<T>> buildResponse(VaultRequest<T> request, int statusCode,
             Collection<Map.Entry<String, String>> headers, byte[] body) {
+        return buildResponse(request, statusCode, () -> List.copyOf(headers),
+                body != null ? VaultResponseBody.of(body) : null);
+    }
+
+    /**
+     * Builds the response from the body as received by the transport, without copying it into a byte array first.
+     * Headers are only materialized when they are accessed.
+     */
+    protected <T> CompletionStage<VaultResponse<T>> buildResponse(VaultRequest<T> request, int statusCode,
+            Supplier<List<Map.Entry<String, String>>> headers, VaultResponseBody body) {
         return CompletableFuture.completedStage(null)
                 .thenApply(none -> {
-                    var response = new VaultResponse<>(request, statusCode, List.copyOf(headers), body);
+                    var response = new VaultResponse<>(request, statusCode, headers, body);
 
                     if (!response.isStatusCodeExpected() && !response.isUpgradedResponse()) {
-                        throwVaultException(request, statusCode, body);
+                        throwVaultException(request, statusCode, body != null ? body.toByteArray() : null);
                     }
 
                     return response;
@@ -2,17 +2,19 @@ package io.quarkus.vault.client.http.jdk;
 
 import java.net.http.*;
 import java.net.http.HttpRequest.BodyPublishers;
-import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeoutException;
 
 import io.quarkus.vault.client.common.VaultRequest;
 import io.quarkus.vault.client.common.VaultResponse;
+import io.quarkus.vault.client.common.VaultResponseBody;
 import io.quarkus.vault.client.http.VaultHttpClient;
 
 public class JDKVaultHttpClient extends VaultHttpClient {
@@ -27,9 +29,9 @@ public class JDKVaultHttpClient extends VaultHttpClient {
     public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
         return CompletableFuture.completedStage(request)
                 .thenApply(this::buildHTTPRequest)
-                .thenCompose((httpRequest) -> httpClient.sendAsync(httpRequest, BodyHandlers.ofByteArray()))
+                .thenCompose((httpRequest) -> httpClient.sendAsync(httpRequest, responseInfo -> new BuffersSubscriber()))
                 .exceptionallyCompose(JDKVaultHttpClient::mapError)
-                .thenCompose(res -> buildResponse(request, res.statusCode(), headers(res), res.body()));
+                .thenCompose(res -> buildResponse(request, res.statusCode(), () -> headers(res), res.body()));
     }
 
     private HttpRequest buildHTTPRequest(VaultRequest<?> request) {
@@ -40,8 +42,8 @@ public class JDKVaultHttpClient extends VaultHttpClient {
 
         request.getHTTPHeaders().forEach(requestBuilder::header);
 
-        var body = request.getSerializedBody()
-                .map(BodyPublishers::ofString)
+        var body = request.getSerializedBodyBytes()
+                .map(BodyPublishers::ofByteArray)
                 .orElseGet(BodyPublishers::noBody);
 
         return requestBuilder
@@ -73,6 +75,42 @@ public class JDKVaultHttpClient extends VaultHttpClient {
         return headers;
     }
 
+    /**
+     * Collects the body buffers as delivered by the HTTP client, leaving it to the response to parse them directly
+     * instead of concatenating them into a single array as {@code BodyHandlers.ofByteArray()} does.
+     */
+    private static class BuffersSubscriber implements HttpResponse.BodySubscriber<VaultResponseBody> {
+
+        private final CompletableFuture<VaultResponseBody> body = new CompletableFuture<>();
+        private final List<ByteBuffer> received = new ArrayList<>();
+
+        @Override
+        public CompletionStage<VaultResponseBody> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            received.addAll(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            received.clear();
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(VaultResponseBody.of(received));
+        }
+    }
+
     @Override
     public void close() {
     }
@@ -0,0 +1,124 @@
+package io.quarkus.vault.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.common.VaultCachingExecutor;
+import io.quarkus.vault.client.common.VaultRequest;
+import io.quarkus.vault.client.common.VaultRequestExecutor;
+import io.quarkus.vault.client.common.VaultResponse;
+import io.quarkus.vault.client.common.VaultStatusResultExtractor;
+
+public class VaultCachingExecutorTest {
+
+    static class CountingExecutor implements VaultRequestExecutor {
+
+        final List<VaultRequest<?>> requests = new ArrayList<>();
+
+        @Override
+        public synchronized <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+            requests.add(request);
+            var body = "{\"lease_duration\":0,\"data\":{\"n\":" + requests.size() + "}}";
+            return CompletableFuture.completedStage(new VaultResponse<>(request, 200, List.of(), body.getBytes(UTF_8)));
+        }
+    }
+
+    @Test
+    public void testReadsOfCachedMountsAreServedFromCache() throws Exception {
+        var delegate = new CountingExecutor();
+        var executor = new VaultCachingExecutor(delegate, Set.of("/secret/"), Duration.ofMinutes(1), 100);
+
+        var first = executor.execute(request(VaultRequest.Method.GET, "secret/data/test"))
+                .toCompletableFuture().get();
+        var second = executor.execute(request(VaultRequest.Method.GET, "secret/data/test"))
+                .toCompletableFuture().get();
+
+        assertThat(delegate.requests)
+                .hasSize(1);
+        assertThat(second.getBodyAsString())
+                .isEqualTo(first.getBodyAsString());
+
+        executor.execute(request(VaultRequest.Method.LIST, "secret/metadata"))
+                .toCompletableFuture().get();
+        executor.execute(request(VaultRequest.Method.GET, "other/data/test"))
+                .toCompletableFuture().get();
+        executor.execute(request(VaultRequest.Method.GET, "other/data/test"))
+                .toCompletableFuture().get();
+
+        assertThat(delegate.requests)
+                .hasSize(4);
+    }
+
+    @Test
+    public void testWritesInvalidateMount() throws Exception {
+        var delegate = new CountingExecutor();
+        var executor = new VaultCachingExecutor(delegate, Set.of("secret"), Duration.ofMinutes(1), 100);
+
+        var first = executor.execute(request(VaultRequest.Method.GET, "secret/data/test"))
+                .toCompletableFuture().get();
+        executor.execute(request(VaultRequest.Method.POST, "secret/data/test"))
+                .toCompletableFuture().get();
+        var second = executor.execute(request(VaultRequest.Method.GET, "secret/data/test"))
+                .toCompletableFuture().get();
+
+        assertThat(delegate.requests)
+                .hasSize(3);
+        assertThat(second.getBodyAsString())
+                .isNotEqualTo(first.getBodyAsString());
+    }
+
+    @Test
+    public void testExplicitInvalidation() throws Exception {
+        var delegate = new CountingExecutor();
+        var executor = new VaultCachingExecutor(delegate, Set.of("secret"), Duration.ofMinutes(1), 100);
+
+        executor.execute(request(VaultRequest.Method.GET, "secret/data/test"))
+                .toCompletableFuture().get();
+        executor.invalidate("secret");
+        executor.execute(request(VaultRequest.Method.GET, "secret/data/test"))
+                .toCompletableFuture().get();
+        executor.invalidateAll();
+        executor.execute(request(VaultRequest.Method.GET, "secret/data/test"))
+                .toCompletableFuture().get();
+
+        assertThat(delegate.requests)
+                .hasSize(3);
+    }
+
+    @Test
+    public void testCachingAgainReplacesCache() throws Exception {
+        var delegate = new CountingExecutor();
+        var client = VaultClient.builder()
+                .baseUrl("http://localhost:8200")
+                .executor(delegate)
+                .cacheResponses(Set.of("secret"), Duration.ofMinutes(1), 100)
+                .cacheResponses(Set.of("other"), Duration.ofMinutes(5), 10)
+                .build();
+
+        assertThat(client.getExecutor())
+                .isInstanceOfSatisfying(VaultCachingExecutor.class, executor -> {
+                    assertThat(executor.getMountPaths())
+                            .containsExactly("other");
+                    assertThat(executor.getDelegate())
+                            .isSameAs(delegate);
+                });
+    }
+
+    private static VaultRequest<Integer> request(VaultRequest.Method method, String path) throws Exception {
+        return VaultRequest.request("test", method)
+                .baseUrl(new URL("http://localhost:8200"))
+                .path(path)
+                .token("token")
+                .build(VaultStatusResultExtractor.INSTANCE);
+    }
+}
@@ -8,16 +8,23 @@ import static org.mockito.Mockito.*;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 
 import io.quarkus.vault.client.api.auth.token.VaultAuthTokenCreateTokenParams;
 import io.quarkus.vault.client.api.common.VaultAuthResult;
@@ -89,6 +96,153 @@ public class VaultCachingTokenProviderTest {
                 });
     }
 
+    @Test
+    public void testConcurrentRequestsShareSingleLogin(VaultClient client) throws Exception {
+
+        var login = new CompletableFuture<VaultToken>();
+        //noinspection Convert2Lambda
+        var tokenProvider = spy((VaultTokenProvider) new VaultTokenProvider() {
+            @Override
+            public CompletionStage<VaultToken> apply(VaultAuthRequest authRequest) {
+                return login;
+            }
+        });
+        var cachingTokenProvider = new VaultCachingTokenProvider(tokenProvider, Duration.ofSeconds(30));
+
+        var authRequest = new VaultAuthRequest(client.getExecutor(), VaultRequest.get("test").build(), tickableInstantSource);
+
+        var pending = new ArrayList<CompletableFuture<VaultToken>>();
+        for (int i = 0; i < 10; i++) {
+            pending.add(cachingTokenProvider.apply(authRequest).toCompletableFuture());
+        }
+
+        verify(tokenProvider, times(1))
+                .apply(any());
+        assertThat(cachingTokenProvider.getCoalescedRequestCount())
+                .isEqualTo(9);
+        assertThat(pending)
+                .noneMatch(CompletableFuture::isDone);
+
+        login.complete(VaultToken.from("test-token", true, Duration.ofMinutes(1), null, tickableInstantSource));
+
+        assertThat(pending)
+                .allSatisfy(token -> assertThat(token.get())
+                        .extracting(VaultToken::getClientToken)
+                        .isEqualTo("test-token"));
+
+        var cachedToken = cachingTokenProvider.apply(authRequest)
+                .toCompletableFuture().get();
+
+        assertThat(cachedToken.isFromCache())
+                .isTrue();
+        verify(tokenProvider, times(1))
+                .apply(any());
+    }
+
+    @Test
+    public void testRequestsReadingExpiredTokenDuringLoginDoNotLoginAgain(VaultClient client) throws Exception {
+
+        var logins = new ArrayList<CompletableFuture<VaultToken>>();
+        //noinspection Convert2Lambda
+        var tokenProvider = spy((VaultTokenProvider) new VaultTokenProvider() {
+            @Override
+            public CompletionStage<VaultToken> apply(VaultAuthRequest authRequest) {
+                var login = new CompletableFuture<VaultToken>();
+                logins.add(login);
+                return login;
+            }
+        });
+        var cachingTokenProvider = new VaultCachingTokenProvider(tokenProvider, Duration.ofSeconds(30));
+
+        var authRequest = new VaultAuthRequest(client.getExecutor(), VaultRequest.get("test").build(), tickableInstantSource);
+
+        var first = cachingTokenProvider.apply(authRequest).toCompletableFuture();
+        logins.get(0).complete(VaultToken.from("token-1", false, Duration.ofMinutes(1), null, tickableInstantSource));
+        first.get();
+        tickableInstantSource.tick(Duration.ofMinutes(2));
+
+        var leader = cachingTokenProvider.apply(authRequest).toCompletableFuture();
+
+        // completes the leader's login after the next request has read the expired token, before it joins
+        var logger = Logger.getLogger(VaultCachingTokenProvider.class.getName());
+        var previousLevel = logger.getLevel();
+        var handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                if (record.getMessage().endsWith("has expired") && !logins.get(1).isDone()) {
+                    logins.get(1).complete(
+                            VaultToken.from("token-2", false, Duration.ofMinutes(1), null, tickableInstantSource));
+                }
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        logger.setLevel(Level.FINE);
+        logger.addHandler(handler);
+        CompletableFuture<VaultToken> follower;
+        try {
+            follower = cachingTokenProvider.apply(authRequest).toCompletableFuture();
+        } finally {
+            logger.removeHandler(handler);
+            logger.setLevel(previousLevel);
+        }
+
+        verify(tokenProvider, times(2))
+                .apply(any());
+        assertThat(leader.get().getClientToken())
+                .isEqualTo("token-2");
+        assertThat(follower)
+                .isDone();
+        assertThat(follower.get().getClientToken())
+                .isEqualTo("token-2");
+    }
+
+    @Test
+    public void testTokensAreRefreshedAhead(VaultClient client) throws Exception {
+
+        //noinspection Convert2Lambda
+        var tokenProvider = spy((VaultTokenProvider) new VaultTokenProvider() {
+            @Override
+            public CompletionStage<VaultToken> apply(VaultAuthRequest authRequest) {
+                var token = VaultToken.from("test-token", false, Duration.ofMinutes(10), null, tickableInstantSource);
+                return CompletableFuture.completedStage(token);
+            }
+        });
+        var scheduler = mock(ScheduledExecutorService.class);
+        var cachingTokenProvider = new VaultCachingTokenProvider(tokenProvider, Duration.ofSeconds(30), scheduler, 0.5);
+
+        var authRequest = new VaultAuthRequest(client.getExecutor(), VaultRequest.get("test").build(), tickableInstantSource);
+
+        cachingTokenProvider.apply(authRequest)
+                .toCompletableFuture().get();
+
+        var refresh = ArgumentCaptor.forClass(Runnable.class);
+        var delay = ArgumentCaptor.forClass(Long.class);
+        verify(scheduler, times(1))
+                .schedule(refresh.capture(), delay.capture(), eq(TimeUnit.MILLISECONDS));
+        assertThat(delay.getValue())
+                .isBetween(Duration.ofMinutes(5).minusSeconds(30).toMillis(), Duration.ofMinutes(5).toMillis());
+
+        refresh.getValue().run();
+
+        verify(tokenProvider, times(2))
+                .apply(any());
+        verify(scheduler, times(2))
+                .schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        cachingTokenProvider.apply(authRequest)
+                .toCompletableFuture().get();
+
+        verify(tokenProvider, times(2))
+                .apply(any());
+    }
+
     @ParameterizedTest
     @ValueSource(strings = { "secret", "empty" })
     public void testExpiredTokensAreRequestedAgain(String mount, VaultClient client) throws Exception {
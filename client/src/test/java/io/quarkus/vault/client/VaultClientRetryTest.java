@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -67,6 +68,50 @@ public class VaultClientRetryTest {
                 .execute(any());
     }
 
+    @Test
+    public void testBodyIsSerializedOnceAcrossRetries() throws Exception {
+
+        var attempts = new AtomicInteger();
+        var executor = new VaultRequestExecutor() {
+            @Override
+            public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+                request.getSerializedBodyBytes();
+                if (attempts.incrementAndGet() == 1) {
+                    return CompletableFuture
+                            .failedStage(new VaultClientException("Test", "/test", 403, List.of("permission denied"), null));
+                }
+                return CompletableFuture.completedStage(new VaultResponse<>(request, 204, List.of(), new byte[0]));
+            }
+        };
+        var tokenProvider = new VaultTokenProvider() {
+            @Override
+            public CompletionStage<VaultToken> apply(VaultAuthRequest authRequest) {
+                return CompletableFuture.completedStage(
+                        VaultToken.from("token", true, Duration.ofMinutes(1), null, InstantSource.system()).cached());
+            }
+        };
+
+        var client = VaultClient.builder()
+                .baseUrl("https://example.com:8200")
+                .executor(executor)
+                .tokenProvider(tokenProvider)
+                .build();
+
+        var body = new CountingBody();
+        var request = VaultRequest.post("Test")
+                .path("test")
+                .body(body)
+                .expectNoContentStatus()
+                .build();
+
+        client.execute(request).toCompletableFuture().get();
+
+        assertThat(attempts.get())
+                .isEqualTo(2);
+        assertThat(body.serializations.get())
+                .isEqualTo(1);
+    }
+
     @Test
     public void testBuilder() throws Exception {
         var executor = new VaultRequestExecutor() {
@@ -108,4 +153,14 @@ public class VaultClientRetryTest {
                 .isEqualTo(LogConfidentialityLevel.MEDIUM);
     }
 
+    public static class CountingBody {
+
+        private final AtomicInteger serializations = new AtomicInteger();
+
+        public String getValue() {
+            serializations.incrementAndGet();
+            return "value";
+        }
+    }
+
 }
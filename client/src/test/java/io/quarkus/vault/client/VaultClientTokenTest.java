@@ -0,0 +1,93 @@
+package io.quarkus.vault.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.auth.VaultAuthRequest;
+import io.quarkus.vault.client.auth.VaultCachingTokenProvider;
+import io.quarkus.vault.client.auth.VaultToken;
+import io.quarkus.vault.client.auth.VaultTokenProvider;
+import io.quarkus.vault.client.common.VaultRequestExecutor;
+import io.quarkus.vault.client.logging.LogConfidentialityLevel;
+
+public class VaultClientTokenTest {
+
+    @Test
+    public void testClientTokenComesFromTokenProvider() throws Exception {
+
+        var authRequest = new AtomicReference<VaultAuthRequest>();
+        var client = VaultClient.builder()
+                .baseUrl("https://example.com:8200")
+                .executor(mock(VaultRequestExecutor.class))
+                .namespace("ns")
+                .logConfidentialityLevel(LogConfidentialityLevel.HIGH)
+                .tokenProvider(new VaultTokenProvider() {
+                    @Override
+                    public CompletionStage<VaultToken> apply(VaultAuthRequest request) {
+                        authRequest.set(request);
+                        return CompletableFuture.completedStage(
+                                VaultToken.from("provided", false, Duration.ofMinutes(1), null, InstantSource.system()));
+                    }
+                })
+                .build();
+
+        assertThat(client.getClientToken("[TEST] Subscribe").toCompletableFuture().get())
+                .isEqualTo("provided");
+        assertThat(authRequest.get().getExecutor())
+                .isSameAs(client);
+        assertThat(authRequest.get().getRequest().getOperation())
+                .isEqualTo("[TEST] Subscribe");
+        assertThat(authRequest.get().getRequest().getNamespace())
+                .contains("ns");
+        assertThat(authRequest.get().getRequest().getLogConfidentialityLevel())
+                .isEqualTo(LogConfidentialityLevel.HIGH);
+    }
+
+    @Test
+    public void testRefreshingAheadExposesEffectiveTokenProvider() throws Exception {
+
+        var configured = new VaultCachingTokenProvider(
+                authRequest -> CompletableFuture.completedStage(
+                        VaultToken.from("provided", true, Duration.ofMinutes(1), null, InstantSource.system())),
+                Duration.ofSeconds(30));
+        var client = VaultClient.builder()
+                .baseUrl("https://example.com:8200")
+                .executor(mock(VaultRequestExecutor.class))
+                .tokenProvider(configured)
+                .tokenRefreshAhead(mock(ScheduledExecutorService.class), 0.5)
+                .build();
+
+        assertThat(client.getClientToken("[TEST] Subscribe").toCompletableFuture().get())
+                .isEqualTo("provided");
+        assertThat(client.getTokenProvider())
+                .isNotSameAs(configured)
+                .isInstanceOfSatisfying(VaultCachingTokenProvider.class, effective -> {
+                    assertThat(effective.getCachedToken())
+                            .map(VaultToken::getClientToken)
+                            .contains("provided");
+                });
+        assertThat(configured.getCachedToken())
+                .isEmpty();
+    }
+
+    @Test
+    public void testClientTokenIsNullWithoutTokenProvider() throws Exception {
+
+        var client = VaultClient.builder()
+                .baseUrl("https://example.com:8200")
+                .executor(mock(VaultRequestExecutor.class))
+                .build();
+
+        assertThat(client.getClientToken("[TEST] Subscribe").toCompletableFuture().get())
+                .isNull();
+    }
+}
@@ -0,0 +1,135 @@
+package io.quarkus.vault.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.common.VaultCoalescingExecutor;
+import io.quarkus.vault.client.common.VaultRequest;
+import io.quarkus.vault.client.common.VaultRequestExecutor;
+import io.quarkus.vault.client.common.VaultResponse;
+import io.quarkus.vault.client.common.VaultStatusResultExtractor;
+
+public class VaultCoalescingExecutorTest {
+
+    static class PendingExecutor implements VaultRequestExecutor {
+
+        final List<VaultRequest<?>> requests = new ArrayList<>();
+        final List<CompletableFuture<VaultResponse<?>>> responses = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public synchronized <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+            var response = new CompletableFuture<VaultResponse<?>>();
+            requests.add(request);
+            responses.add(response);
+            return (CompletionStage) response;
+        }
+
+        void completeAll() {
+            for (int i = 0; i < requests.size(); i++) {
+                responses.get(i).complete(new VaultResponse<>(requests.get(i), 200, List.of(), "{}".getBytes(UTF_8)));
+            }
+        }
+    }
+
+    @Test
+    public void testIdenticalReadsAreCoalesced() throws Exception {
+        var delegate = new PendingExecutor();
+        var executor = new VaultCoalescingExecutor(delegate);
+
+        var pending = new ArrayList<CompletableFuture<VaultResponse<Integer>>>();
+        for (int i = 0; i < 5; i++) {
+            pending.add(executor.execute(read("secret/data/test", "token")).toCompletableFuture());
+        }
+
+        assertThat(delegate.requests)
+                .hasSize(1);
+        assertThat(executor.getCoalescedRequestCount())
+                .isEqualTo(4);
+
+        delegate.completeAll();
+
+        assertThat(pending)
+                .allSatisfy(response -> {
+                    assertThat(response.get().getStatusCode())
+                            .isEqualTo(200);
+                    assertThat(response.get().getBodyAsString())
+                            .contains("{}");
+                });
+
+        executor.execute(read("secret/data/test", "token"));
+
+        assertThat(delegate.requests)
+                .hasSize(2);
+    }
+
+    @Test
+    public void testDifferentReadsAreNotCoalesced() throws Exception {
+        var delegate = new PendingExecutor();
+        var executor = new VaultCoalescingExecutor(delegate);
+
+        executor.execute(read("secret/data/test", "token"));
+        executor.execute(read("secret/data/other", "token"));
+        executor.execute(read("secret/data/test", "other-token"));
+
+        assertThat(delegate.requests)
+                .hasSize(3);
+        assertThat(executor.getCoalescedRequestCount())
+                .isZero();
+    }
+
+    @Test
+    public void testWritesAndWrappedReadsAreNotCoalesced() throws Exception {
+        var delegate = new PendingExecutor();
+        var executor = new VaultCoalescingExecutor(delegate);
+
+        for (int i = 0; i < 2; i++) {
+            executor.execute(VaultRequest.post("test")
+                    .baseUrl(new URL("http://localhost:8200"))
+                    .path("secret/data/test")
+                    .token("token")
+                    .build());
+            executor.execute(read("secret/data/test", "token").builder()
+                    .wrapTTL(Duration.ofSeconds(60))
+                    .rebuild());
+        }
+
+        assertThat(delegate.requests)
+                .hasSize(4);
+    }
+
+    @Test
+    public void testFailuresAreShared() throws Exception {
+        var delegate = new PendingExecutor();
+        var executor = new VaultCoalescingExecutor(delegate);
+
+        var first = executor.execute(read("secret/data/test", "token")).toCompletableFuture();
+        var second = executor.execute(read("secret/data/test", "token")).toCompletableFuture();
+
+        delegate.responses.get(0).completeExceptionally(new VaultClientException("test", "/", 500, List.of("boom"), null));
+
+        assertThat(first)
+                .isCompletedExceptionally();
+        assertThat(second)
+                .isCompletedExceptionally();
+        assertThat(delegate.requests)
+                .hasSize(1);
+    }
+
+    private static VaultRequest<Integer> read(String path, String token) throws Exception {
+        return VaultRequest.get("test")
+                .baseUrl(new URL("http://localhost:8200"))
+                .path(path)
+                .token(token)
+                .build(VaultStatusResultExtractor.INSTANCE);
+    }
+}
@@ -1,5 +1,6 @@
 package io.quarkus.vault.client;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.net.URL;
@@ -12,6 +13,9 @@ import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import io.quarkus.vault.client.api.secrets.pki.VaultSecretsPKIKeyBits;
+import io.quarkus.vault.client.api.secrets.pki.VaultSecretsPKISignatureBits;
+import io.quarkus.vault.client.api.sys.health.VaultHealthStatus;
 import io.quarkus.vault.client.common.VaultRequest;
 import io.quarkus.vault.client.common.VaultVoidResultExtractor;
 import io.quarkus.vault.client.http.VaultHttpClient;
@@ -165,6 +169,90 @@ public class VaultRequestTest {
                 .isEqualTo("test/test2");
     }
 
+    @Test
+    public void testPathEncodesSimpleValues() {
+
+        var request = VaultRequest.get("Test")
+                .path("/test/", 1, true, "/", "test2/")
+                .build();
+
+        assertThat(request.getPath())
+                .isEqualTo("test/1/true/test2");
+    }
+
+    @Test
+    public void testRebuiltRequestsDoNotModifyOriginal() throws Exception {
+
+        var request = VaultRequest.get("Test")
+                .baseUrl(new URL("https://example.com:8200"))
+                .path("test")
+                .queryParam("foo", "bar")
+                .header("foo", "bar")
+                .build();
+
+        assertThat(request.getUrl())
+                .isEqualTo(new URL("https://example.com:8200/v1/test?foo=bar"));
+
+        var rebuilt = request.builder()
+                .queryParam("baz", "qux")
+                .header("baz", "qux")
+                .token("test")
+                .rebuild();
+
+        assertThat(rebuilt.getUrl())
+                .isEqualTo(new URL("https://example.com:8200/v1/test?foo=bar&baz=qux"));
+        assertThat(rebuilt.getHTTPHeaders())
+                .containsEntry("baz", "qux")
+                .containsEntry(VaultHttpClient.X_VAULT_TOKEN, "test");
+        assertThat(request.getUrl())
+                .isEqualTo(new URL("https://example.com:8200/v1/test?foo=bar"));
+        assertThat(request.getHeaders())
+                .doesNotContainKey("baz");
+        assertThat(request.getHTTPHeaders())
+                .doesNotContainKey(VaultHttpClient.X_VAULT_TOKEN);
+    }
+
+    @Test
+    public void testRebuiltRequestsShareUrl() throws Exception {
+
+        var request = VaultRequest.get("Test")
+                .baseUrl(new URL("https://example.com:8200"))
+                .path("test")
+                .build();
+
+        // as done by VaultClient, before any URL is computed
+        var builder = request.builder();
+        var first = builder.token("first").rebuild();
+        var second = builder.token("second").rebuild();
+
+        assertThat(second.getUrl())
+                .isSameAs(first.getUrl())
+                .isSameAs(request.getUrl());
+        assertThat(builder.path("other").rebuild().getUrl())
+                .isEqualTo(new URL("https://example.com:8200/v1/other"));
+    }
+
+    @Test
+    public void testSerializedBodyIsMemoized() {
+
+        var request = VaultRequest.post("Test")
+                .body(Map.of("foo", "bar"))
+                .build();
+
+        var serialized = request.getSerializedBodyBytes().orElseThrow();
+
+        assertThat(new String(serialized, UTF_8))
+                .isEqualTo("{\"foo\":\"bar\"}");
+        assertThat(request.getSerializedBody())
+                .contains("{\"foo\":\"bar\"}");
+        assertThat(request.builder().token("test").rebuild().getSerializedBodyBytes())
+                .containsSame(serialized);
+        assertThat(request.builder().body(Map.of("baz", "qux")).rebuild().getSerializedBody())
+                .contains("{\"baz\":\"qux\"}");
+        assertThat(VaultRequest.post("Test").build().getSerializedBodyBytes())
+                .isEmpty();
+    }
+
     @Test
     public void testQueryParamSelector() {
 
@@ -205,6 +293,22 @@ public class VaultRequestTest {
                 .isEqualTo(new URL("https://example.com:8200/v1/test?foo=foo_option"));
     }
 
+    @Test
+    public void testEncodesEnumsWithJsonValue() throws Exception {
+
+        var request = VaultRequest.post("Test")
+                .baseUrl(new URL("https://example.com:8200"))
+                .path("test", VaultSecretsPKIKeyBits.RSA_2048)
+                .queryParam("bits", VaultSecretsPKISignatureBits.SHA_256)
+                .header("status", VaultHealthStatus.SEALED)
+                .build();
+
+        assertThat(request.getUrl())
+                .isEqualTo(new URL("https://example.com:8200/v1/test/2048?bits=256"));
+        assertThat(request.getHeaders())
+                .containsEntry("status", "503");
+    }
+
     @Test
     public void testHeaderSelector() {
 
@@ -0,0 +1,37 @@
+package io.quarkus.vault.client;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.common.VaultResponseBody;
+import io.quarkus.vault.client.json.JsonMapping;
+
+public class VaultResponseBodyTest {
+
+    @Test
+    public void testBuffersAreParsedInPlace() throws Exception {
+        var json = "{\"lease_duration\":10,\"data\":{\"key\":\"value\"}}".getBytes(UTF_8);
+        var body = VaultResponseBody.of(List.of(
+                ByteBuffer.wrap(json, 0, 7),
+                ByteBuffer.allocateDirect(json.length - 7).put(json, 7, json.length - 7).flip()));
+
+        assertThat(body.length())
+                .isEqualTo(json.length);
+        assertThat(body.readValue(JsonMapping.mapper, Object.class))
+                .asInstanceOf(MAP)
+                .containsEntry("lease_duration", 10)
+                .containsEntry("data", Map.of("key", "value"));
+        assertThat(body.toByteArray())
+                .isEqualTo(json);
+        assertThat(body.readValue(JsonMapping.mapper, Object.class))
+                .asInstanceOf(MAP)
+                .containsEntry("lease_duration", 10);
+    }
+}
@@ -3,6 +3,8 @@ package io.quarkus.vault.deployment;
 import org.jboss.jandex.DotName;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -19,12 +21,15 @@ import io.quarkus.vault.VaultKubernetesAuthService;
 import io.quarkus.vault.VaultPKISecretEngine;
 import io.quarkus.vault.VaultSystemBackendEngine;
 import io.quarkus.vault.VaultTOTPSecretEngine;
+import io.quarkus.vault.VaultTransitEnvelopeEngine;
 import io.quarkus.vault.VaultTransitSecretEngine;
 import io.quarkus.vault.client.common.VaultModel;
 import io.quarkus.vault.runtime.*;
+import io.quarkus.vault.runtime.agroal.VaultDataSourceFlusher;
 import io.quarkus.vault.runtime.client.VaultClientProducer;
 import io.quarkus.vault.runtime.config.VaultBuildTimeConfig;
 import io.quarkus.vault.runtime.config.VaultConfigSourceFactoryBuilder;
+import io.quarkus.vault.runtime.events.VaultEventInvalidator;
 import io.quarkus.vault.runtime.health.VaultHealthCheck;
 
 public class VaultProcessor {
@@ -62,6 +67,8 @@ public class VaultProcessor {
                 .addBeanClass(VaultKVSecretEngine.class)
                 .addBeanClass(VaultTransitManager.class)
                 .addBeanClass(VaultTransitSecretEngine.class)
+                .addBeanClass(VaultTransitEnvelopeManager.class)
+                .addBeanClass(VaultTransitEnvelopeEngine.class)
                 .addBeanClass(VaultTOTPManager.class)
                 .addBeanClass(VaultTOTPSecretEngine.class)
                 .addBeanClass(VaultSystemBackendManager.class)
@@ -76,9 +83,17 @@ public class VaultProcessor {
                 .addBeanClass(VaultPKIManager.class)
                 .addBeanClass(VaultPKISecretEngine.class)
                 .addBeanClass(VaultPKIManagerFactory.class)
+                .addBeanClass(VaultEventInvalidator.class)
                 .build();
     }
 
+    @BuildStep
+    void registerDataSourceFlusher(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (capabilities.isPresent(Capability.AGROAL)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(VaultDataSourceFlusher.class));
+        }
+    }
+
     @BuildStep
     void vaultConfigFactory(BuildProducer<RunTimeConfigBuilderBuildItem> runTimeConfigBuilder) {
         runTimeConfigBuilder.produce(new RunTimeConfigBuilderBuildItem(VaultConfigSourceFactoryBuilder.class.getName()));
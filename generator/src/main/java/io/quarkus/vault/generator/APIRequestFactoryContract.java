@@ -232,22 +232,36 @@ public class APIRequestFactoryContract extends BaseAPIGenerator implements APIGe
     private List<Map.Entry<String, String>> pathSegments(String path) {
         var pathParts = path.split("/");
         var pathSegments = new ArrayList<Map.Entry<String, String>>();
+        // consecutive constant parts are joined at generation time, so only
+        // parameters need to be joined when building requests
+        var constantPath = new StringJoiner("/");
         if (api.basePath().isPresent()) {
-            pathSegments.add(Map.entry("$S", api.basePath().get()));
+            constantPath.add(api.basePath().get());
         }
         if (api.isMountable()) {
+            addConstantPathSegment(pathSegments, constantPath);
+            constantPath = new StringJoiner("/");
             pathSegments.add(Map.entry("$L", "mountPath"));
         }
         for (var pathPart : pathParts) {
             if (pathPart.startsWith(":")) {
+                addConstantPathSegment(pathSegments, constantPath);
+                constantPath = new StringJoiner("/");
                 pathSegments.add(Map.entry("$L", pathPart.substring(1)));
-            } else {
-                pathSegments.add(Map.entry("$S", pathPart));
+            } else if (!pathPart.isEmpty()) {
+                constantPath.add(pathPart);
             }
         }
+        addConstantPathSegment(pathSegments, constantPath);
         return pathSegments;
     }
 
+    private static void addConstantPathSegment(List<Map.Entry<String, String>> pathSegments, StringJoiner constantPath) {
+        if (constantPath.length() > 0) {
+            pathSegments.add(Map.entry("$S", constantPath.toString()));
+        }
+    }
+
     private void addExpectedStatus(Operation operation, CodeBlock.Builder body) {
         if (operation.getStatus().isEmpty()) {
             body.add(".expectAnyStatus()");
@@ -0,0 +1,95 @@
+package io.quarkus.vault;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.vault.client.VaultClient;
+import io.quarkus.vault.credentials.VaultCredentialsRotatedEvent;
+import io.quarkus.vault.test.VaultTestLifecycleManager;
+
+@DisabledOnOs(OS.WINDOWS) // https://github.com/quarkusio/quarkus/issues/3796
+@QuarkusTestResource(VaultTestLifecycleManager.class)
+public class AgroalVaultRotationITCase {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RotationObserver.class)
+                    .addAsResource("application-vault-rotation-datasource.properties", "application.properties"));
+
+    @ApplicationScoped
+    public static class RotationObserver {
+
+        final List<String> rotated = new CopyOnWriteArrayList<>();
+
+        void onRotation(@ObservesAsync VaultCredentialsRotatedEvent event) {
+            rotated.add(event.getCredentialsProviderName());
+        }
+    }
+
+    @Inject
+    @DataSource("dynamicDS")
+    AgroalDataSource dynamicDS;
+
+    @Inject
+    VaultClient vaultClient;
+
+    @Inject
+    RotationObserver observer;
+
+    @Test
+    public void revokedCredentialsAreFlushed() throws Exception {
+        String user = currentUser();
+
+        // the connection is back in the pool, and would be reused if it was not flushed
+        vaultClient.sys().leases().revokePrefix("database/creds/mydbrole").toCompletableFuture().get();
+
+        waitFor(() -> observer.rotated.contains("dynamic-ds"));
+        waitFor(() -> !user.equals(currentUser()));
+        assertNotEquals(user, currentUser());
+    }
+
+    private String currentUser() {
+        try (Connection c = dynamicDS.getConnection();
+                Statement stmt = c.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT current_user")) {
+            assertTrue(rs.next());
+            return rs.getString(1);
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        Instant timeout = Instant.now().plus(Duration.ofSeconds(30));
+        while (!condition.getAsBoolean()) {
+            assertTrue(Instant.now().isBefore(timeout), "timed out");
+            Thread.sleep(200);
+        }
+    }
+}
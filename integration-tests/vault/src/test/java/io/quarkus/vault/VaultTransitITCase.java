@@ -39,6 +39,7 @@ import io.quarkus.test.common.QuarkusTestResource;
 import io.quarkus.vault.client.VaultClient;
 import io.quarkus.vault.client.VaultException;
 import io.quarkus.vault.test.VaultTestLifecycleManager;
+import io.quarkus.vault.transit.BatchStreamOptions;
 import io.quarkus.vault.transit.ClearData;
 import io.quarkus.vault.transit.DecryptionRequest;
 import io.quarkus.vault.transit.EncryptionRequest;
@@ -49,6 +50,7 @@ import io.quarkus.vault.transit.SignVerifyOptions;
 import io.quarkus.vault.transit.SigningInput;
 import io.quarkus.vault.transit.SigningRequest;
 import io.quarkus.vault.transit.TransitContext;
+import io.quarkus.vault.transit.TransitResult;
 import io.quarkus.vault.transit.VaultTransitAsymmetricKeyDetail;
 import io.quarkus.vault.transit.VaultTransitAsymmetricKeyVersion;
 import io.quarkus.vault.transit.VaultTransitDataKeyRequestDetail;
@@ -58,6 +60,7 @@ import io.quarkus.vault.transit.VaultTransitSymmetricKeyDetail;
 import io.quarkus.vault.transit.VaultTransitSymmetricKeyVersion;
 import io.quarkus.vault.transit.VaultVerificationBatchException;
 import io.quarkus.vault.transit.VerificationRequest;
+import io.smallrye.mutiny.Multi;
 
 @DisabledOnOs(OS.WINDOWS) // https://github.com/quarkusio/quarkus/issues/3796
 @QuarkusTestResource(VaultTestLifecycleManager.class)
@@ -82,6 +85,10 @@ public class VaultTransitITCase {
     VaultClient client;
     @Inject
     VaultTransitSecretEngine transitSecretEngine;
+    @Inject
+    VaultTransitEnvelopeEngine envelopeEngine;
+    @Inject
+    VaultTransitSecretReactiveEngine reactiveTransitSecretEngine;
 
     @ConfigProperty(name = "quarkus.vault.transit-secret-engine-mount-path", defaultValue = "transit")
     String transitMountPath;
@@ -516,6 +523,73 @@ public class VaultTransitITCase {
         Assertions.assertNull(dataKey2.getPlaintext());
     }
 
+    @Test
+    public void envelopeEncryption() {
+        String ciphertext1 = envelopeEngine.encrypt(ENCRYPTION_KEY_NAME, COUCOU);
+        String ciphertext2 = envelopeEngine.encrypt(ENCRYPTION_KEY_NAME, COUCOU);
+        assertTrue(ciphertext1.startsWith("vault:envelope:v1:"));
+        assertFalse(ciphertext1.equals(ciphertext2));
+        // both payloads are encrypted with the same cached data key
+        assertEquals(ciphertext1.substring(0, ciphertext1.lastIndexOf(':')),
+                ciphertext2.substring(0, ciphertext2.lastIndexOf(':')));
+
+        assertEquals(COUCOU, envelopeEngine.decrypt(ENCRYPTION_KEY_NAME, ciphertext1).asString());
+        assertEquals(COUCOU, envelopeEngine.decrypt(ENCRYPTION_KEY_NAME, ciphertext2).asString());
+
+        String tampered = ciphertext1.substring(0, ciphertext1.length() - 4) + "AAAA";
+        assertThrows(VaultException.class, () -> envelopeEngine.decrypt(ENCRYPTION_KEY_NAME, tampered));
+    }
+
+    @Test
+    public void envelopeEncryptionContext() {
+        String ciphertext = envelopeEngine.encrypt(ENCRYPTION_DERIVED_KEY_NAME, data, context);
+        assertEquals(COUCOU, envelopeEngine.decrypt(ENCRYPTION_DERIVED_KEY_NAME, ciphertext, context).asString());
+    }
+
+    @Test
+    public void streamingEncryptDecrypt() {
+        var options = new BatchStreamOptions().setBatchSize(7).setConcurrency(3);
+        List<String> clearTexts = IntStream.range(0, 50).mapToObj(i -> COUCOU + i).collect(toList());
+
+        List<String> ciphertexts = reactiveTransitSecretEngine.encrypt(ENCRYPTION_KEY_NAME,
+                Multi.createFrom().iterable(clearTexts).map(text -> new EncryptionRequest(new ClearData(text))), options)
+                .map(TransitResult::getValueOrElseError)
+                .collect().asList().await().indefinitely();
+
+        List<String> decrypted = reactiveTransitSecretEngine.decrypt(ENCRYPTION_KEY_NAME,
+                Multi.createFrom().iterable(ciphertexts).map(DecryptionRequest::new), options)
+                .map(TransitResult::getValueOrElseError)
+                .map(ClearData::asString)
+                .collect().asList().await().indefinitely();
+
+        assertEquals(clearTexts, decrypted);
+    }
+
+    @Test
+    public void streamingSignVerify() {
+        var options = new BatchStreamOptions().setBatchSize(3);
+        List<SigningInput> inputs = IntStream.range(0, 10).mapToObj(i -> new SigningInput(COUCOU + i)).collect(toList());
+
+        List<String> signatures = reactiveTransitSecretEngine.sign(SIGN_KEY_NAME,
+                Multi.createFrom().iterable(inputs).map(SigningRequest::new), null, options)
+                .map(TransitResult::getValueOrElseError)
+                .collect().asList().await().indefinitely();
+
+        List<TransitResult<Boolean>> results = reactiveTransitSecretEngine.verifySignature(SIGN_KEY_NAME,
+                Multi.createFrom().range(0, inputs.size())
+                        .map(i -> new VerificationRequest(signatures.get(i), inputs.get(i))),
+                null, options)
+                .collect().asList().await().indefinitely();
+
+        assertTrue(results.stream().allMatch(TransitResult::getValue));
+
+        List<TransitResult<Boolean>> invalid = reactiveTransitSecretEngine.verifySignature(SIGN_KEY_NAME,
+                Multi.createFrom().items(new VerificationRequest(signatures.get(0), inputs.get(1))), null, null)
+                .collect().asList().await().indefinitely();
+
+        assertEquals(INVALID_SIGNATURE, invalid.get(0).getError());
+    }
+
     @Test
     public void rotateKey() {
         var key = transitSecretEngine.readKey(ENCRYPTION_KEY_NAME).orElseThrow();
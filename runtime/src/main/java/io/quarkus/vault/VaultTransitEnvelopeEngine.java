@@ -0,0 +1,71 @@
+package io.quarkus.vault;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import io.quarkus.vault.transit.ClearData;
+import io.quarkus.vault.transit.TransitContext;
+
+/**
+ * A service that encrypts data locally with data keys generated and wrapped by a Vault Transit key (envelope
+ * encryption).
+ *
+ * @implNote Wrapper for reactive engine. Request timeouts are accounted for in Vault client.
+ * @see VaultTransitEnvelopeReactiveEngine
+ */
+@ApplicationScoped
+public class VaultTransitEnvelopeEngine {
+
+    private final VaultTransitEnvelopeReactiveEngine engine;
+
+    @Inject
+    public VaultTransitEnvelopeEngine(VaultTransitEnvelopeReactiveEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Encrypt a regular string with a data key wrapped by the given transit key.
+     *
+     * @param keyName the transit key wrapping the data keys
+     * @param clearData the string to encrypt
+     * @return self-describing cipher text, embedding the wrapped data key
+     */
+    public String encrypt(String keyName, String clearData) {
+        return engine.encrypt(keyName, clearData).await().indefinitely();
+    }
+
+    /**
+     * Encrypt data with a data key wrapped by the given transit key.
+     *
+     * @param keyName the transit key wrapping the data keys
+     * @param clearData the data to encrypt
+     * @param transitContext optional transit context used for key derivation when wrapping the data key
+     * @return self-describing cipher text, embedding the wrapped data key
+     */
+    public String encrypt(String keyName, ClearData clearData, TransitContext transitContext) {
+        return engine.encrypt(keyName, clearData, transitContext).await().indefinitely();
+    }
+
+    /**
+     * Decrypt a cipher text produced by {@link #encrypt(String, String)}.
+     *
+     * @param keyName the transit key that wrapped the data key
+     * @param ciphertext the cipher text
+     * @return the unencrypted data
+     */
+    public ClearData decrypt(String keyName, String ciphertext) {
+        return engine.decrypt(keyName, ciphertext).await().indefinitely();
+    }
+
+    /**
+     * Decrypt a cipher text produced by {@link #encrypt(String, ClearData, TransitContext)}.
+     *
+     * @param keyName the transit key that wrapped the data key
+     * @param ciphertext the cipher text
+     * @param transitContext the transit context used when encrypting, if any
+     * @return the unencrypted data
+     */
+    public ClearData decrypt(String keyName, String ciphertext, TransitContext transitContext) {
+        return engine.decrypt(keyName, ciphertext, transitContext).await().indefinitely();
+    }
+}
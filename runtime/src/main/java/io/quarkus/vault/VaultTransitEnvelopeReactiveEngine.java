@@ -0,0 +1,64 @@
+package io.quarkus.vault;
+
+import io.quarkus.vault.transit.ClearData;
+import io.quarkus.vault.transit.TransitContext;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A service that encrypts data locally with data keys generated and wrapped by a Vault Transit key (envelope
+ * encryption).
+ * <p>
+ * A data key is obtained from {@link VaultTransitSecretReactiveEngine#generateDataKey} and reused, in memory, for
+ * a configurable number of encryptions or amount of time. Payloads are encrypted with AES-GCM, and the resulting
+ * ciphertext embeds the data key wrapped by the transit key. Decryption only calls Vault, to unwrap the data key,
+ * the first time a given wrapped data key is seen; unwrapped data keys are cached.
+ * <p>
+ * Ciphertexts produced by this engine can only be decrypted by this engine, not by the transit {@code decrypt}
+ * endpoint.
+ *
+ * @see <a href="https://www.vaultproject.io/api-docs/secret/transit#generate-data-key">Generate Data Key</a>
+ */
+public interface VaultTransitEnvelopeReactiveEngine {
+
+    /**
+     * Encrypt a regular string with a data key wrapped by the given transit key.
+     * Equivalent to:
+     * {@code encrypt(keyName, new ClearData(clearData), null);}
+     *
+     * @param keyName the transit key wrapping the data keys
+     * @param clearData the string to encrypt
+     * @return self-describing cipher text, embedding the wrapped data key
+     */
+    Uni<String> encrypt(String keyName, String clearData);
+
+    /**
+     * Encrypt data with a data key wrapped by the given transit key.
+     *
+     * @param keyName the transit key wrapping the data keys
+     * @param clearData the data to encrypt
+     * @param transitContext optional transit context used for key derivation when wrapping the data key
+     * @return self-describing cipher text, embedding the wrapped data key
+     */
+    Uni<String> encrypt(String keyName, ClearData clearData, TransitContext transitContext);
+
+    /**
+     * Decrypt a cipher text produced by {@link #encrypt(String, String)}.
+     * Equivalent to:
+     * {@code decrypt(keyName, ciphertext, null);}
+     *
+     * @param keyName the transit key that wrapped the data key
+     * @param ciphertext the cipher text
+     * @return the unencrypted data
+     */
+    Uni<ClearData> decrypt(String keyName, String ciphertext);
+
+    /**
+     * Decrypt a cipher text produced by {@link #encrypt(String, ClearData, TransitContext)}.
+     *
+     * @param keyName the transit key that wrapped the data key
+     * @param ciphertext the cipher text
+     * @param transitContext the transit context used when encrypting, if any
+     * @return the unencrypted data
+     */
+    Uni<ClearData> decrypt(String keyName, String ciphertext, TransitContext transitContext);
+}
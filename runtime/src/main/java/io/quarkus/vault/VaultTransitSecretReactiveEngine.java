@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import io.quarkus.vault.transit.BatchStreamOptions;
+import io.quarkus.vault.transit.BulkRewrappingOptions;
+import io.quarkus.vault.transit.BulkRewrappingProgress;
 import io.quarkus.vault.transit.ClearData;
 import io.quarkus.vault.transit.DecryptionRequest;
 import io.quarkus.vault.transit.EncryptionRequest;
@@ -14,6 +17,7 @@ import io.quarkus.vault.transit.SignVerifyOptions;
 import io.quarkus.vault.transit.SigningInput;
 import io.quarkus.vault.transit.SigningRequest;
 import io.quarkus.vault.transit.TransitContext;
+import io.quarkus.vault.transit.TransitResult;
 import io.quarkus.vault.transit.VaultDecryptionBatchException;
 import io.quarkus.vault.transit.VaultEncryptionBatchException;
 import io.quarkus.vault.transit.VaultRewrappingBatchException;
@@ -26,6 +30,7 @@ import io.quarkus.vault.transit.VaultTransitKeyDetail;
 import io.quarkus.vault.transit.VaultTransitKeyExportDetail;
 import io.quarkus.vault.transit.VaultVerificationBatchException;
 import io.quarkus.vault.transit.VerificationRequest;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -76,6 +81,21 @@ public interface VaultTransitSecretReactiveEngine {
      */
     Uni<Map<EncryptionRequest, String>> encrypt(String keyName, List<EncryptionRequest> requests);
 
+    /**
+     * Encrypt a stream of data items, in batches of items grouped by size and delay, with a bounded number of
+     * batch requests in flight.
+     * Results are emitted in request order, as requested downstream; items are only taken from the request stream
+     * as their results are consumed, so the stream never needs to fit in memory.
+     * Item errors are emitted as results in error. If a batch request fails as a whole, the returned stream fails.
+     *
+     * @param keyName the key to encrypt the data items with
+     * @param requests the stream of data items to encrypt
+     * @param options the batching and concurrency options, or {@code null} for the defaults
+     * @return the result of each request, in request order
+     * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#encrypt-data">encrypt data</a>
+     */
+    Multi<TransitResult<String>> encrypt(String keyName, Multi<EncryptionRequest> requests, BatchStreamOptions options);
+
     /**
      * Decrypt the encrypted data with the specified key, and return unencrypted data.
      *
@@ -110,6 +130,18 @@ public interface VaultTransitSecretReactiveEngine {
      */
     Uni<Map<DecryptionRequest, ClearData>> decrypt(String keyName, List<DecryptionRequest> requests);
 
+    /**
+     * Decrypt a stream of encrypted data items, in batches grouped by size and delay.
+     * See {@link #encrypt(String, Multi, BatchStreamOptions)} for batching, ordering and error semantics.
+     *
+     * @param keyName the key that was used to encrypt the original data
+     * @param requests the stream of encrypted data items
+     * @param options the batching and concurrency options, or {@code null} for the defaults
+     * @return the result of each request, in request order
+     * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#decrypt-data">decrypt data</a>
+     */
+    Multi<TransitResult<ClearData>> decrypt(String keyName, Multi<DecryptionRequest> requests, BatchStreamOptions options);
+
     /**
      * Reencrypt into a new cipher text a cipher text that was obtained from encryption using an old key version
      * with the last key version
@@ -152,6 +184,25 @@ public interface VaultTransitSecretReactiveEngine {
      */
     Uni<Map<RewrappingRequest, String>> rewrap(String keyName, List<RewrappingRequest> requests);
 
+    /**
+     * Reencrypt a stream of encrypted data items with the last version of the specified key, typically after a
+     * key rotation.
+     * Items are sent to Vault in batches, with a bounded number of requests in flight and an optional target
+     * throughput. Items are requested from the stream as progress items are consumed, so the stream never needs
+     * to fit in memory.
+     * Each progress item holds the results of one batch, item errors included, and a checkpoint. If a batch
+     * request fails as a whole, the returned stream fails; the job can be resumed from the checkpoint of the last
+     * handled progress item, passed as start offset along with the stream of the remaining items.
+     *
+     * @param keyName the encryption key that was used for the previous encryptions
+     * @param requests the stream of items to reencrypt
+     * @param options the batching, concurrency, throughput and offset options, or {@code null} for the defaults
+     * @return the progress of each batch, as batches complete
+     * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#rewrap-data">rewrap data</a>
+     */
+    Multi<BulkRewrappingProgress> rewrap(String keyName, Multi<RewrappingRequest> requests,
+            BulkRewrappingOptions options);
+
     /**
      * Sign an input string with the specified key.
      *
@@ -186,6 +237,20 @@ public interface VaultTransitSecretReactiveEngine {
      */
     Uni<String> sign(String keyName, SigningInput input, SignVerifyOptions options, TransitContext transitContext);
 
+    /**
+     * Sign a stream of inputs, in batches grouped by size and delay.
+     * See {@link #encrypt(String, Multi, BatchStreamOptions)} for batching, ordering and error semantics.
+     *
+     * @param keyName the signing key to use
+     * @param requests the stream of inputs to sign
+     * @param signOptions optional sign options
+     * @param options the batching and concurrency options, or {@code null} for the defaults
+     * @return the result of each request, in request order
+     * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#sign-data">sign data</a>
+     */
+    Multi<TransitResult<String>> sign(String keyName, Multi<SigningRequest> requests, SignVerifyOptions signOptions,
+            BatchStreamOptions options);
+
     /**
      * Sign a list of inputs items. Each item shall specify the input to sign, an optional key version, and
      * an optional transit context used for key derivation, if applicable.
@@ -273,6 +338,21 @@ public interface VaultTransitSecretReactiveEngine {
      */
     Uni<Void> verifySignature(String keyName, List<VerificationRequest> requests, SignVerifyOptions options);
 
+    /**
+     * Verify a stream of signatures, in batches grouped by size and delay.
+     * See {@link #encrypt(String, Multi, BatchStreamOptions)} for batching, ordering and error semantics; invalid
+     * signatures are emitted as results in error.
+     *
+     * @param keyName the key that was used to sign the inputs
+     * @param requests the stream of signatures and inputs to verify
+     * @param signOptions optional verify options
+     * @param options the batching and concurrency options, or {@code null} for the defaults
+     * @return the result of each request, in request order
+     * @see <a href="https://www.vaultproject.io/api/secret/transit/index.html#verify-signed-data">verify signed data</a>
+     */
+    Multi<TransitResult<Boolean>> verifySignature(String keyName, Multi<VerificationRequest> requests,
+            SignVerifyOptions signOptions, BatchStreamOptions options);
+
     // --- admin operations
 
     /**
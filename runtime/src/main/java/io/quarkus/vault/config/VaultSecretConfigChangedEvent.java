@@ -0,0 +1,50 @@
+package io.quarkus.vault.config;
+
+import java.util.Set;
+
+/**
+ * CDI event fired asynchronously when a refresh of the Vault config source finds that the properties of a kv path
+ * have changed.
+ * <p>
+ * It is fired once the new values are visible through MicroProfile Config, and only carries the names of the
+ * changed properties, not their values. Observe it with {@code @ObservesAsync}.
+ */
+public class VaultSecretConfigChangedEvent {
+
+    private final String alias;
+    private final String path;
+    private final Set<String> changedKeys;
+
+    public VaultSecretConfigChangedEvent(String alias, String path, Set<String> changedKeys) {
+        this.alias = alias;
+        this.path = path;
+        this.changedKeys = changedKeys;
+    }
+
+    /**
+     * Alias of the kv secret engine, as configured in {@code quarkus.vault.kv-secret-engine."alias"}, or
+     * {@code <default>} for the default kv secret engine.
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * Path of the secret in the kv secret engine.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Names of the properties added, removed or modified, including their prefix if any.
+     */
+    public Set<String> getChangedKeys() {
+        return changedKeys;
+    }
+
+    @Override
+    public String toString() {
+        return "VaultSecretConfigChangedEvent{alias=" + alias + ", path=" + path + ", changedKeys=" + changedKeys + "}";
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkus.vault.credentials;
+
+/**
+ * CDI event fired asynchronously when the credentials returned by a Vault credentials provider change.
+ * <p>
+ * It is fired when dynamic credentials are recreated or their lease is revoked, and when the credentials read from
+ * {@code kv-path} change. Connections opened with the previous credentials should be replaced, since Vault may revoke
+ * the previous credentials at any time after the rotation.
+ * <p>
+ * Observe it with {@code @ObservesAsync}.
+ */
+public class VaultCredentialsRotatedEvent {
+
+    private final String credentialsProviderName;
+
+    public VaultCredentialsRotatedEvent(String credentialsProviderName) {
+        this.credentialsProviderName = credentialsProviderName;
+    }
+
+    /**
+     * Name of the credentials provider, as configured in {@code quarkus.vault.credentials-provider."name"}.
+     */
+    public String getCredentialsProviderName() {
+        return credentialsProviderName;
+    }
+
+    @Override
+    public String toString() {
+        return "VaultCredentialsRotatedEvent{credentialsProviderName=" + credentialsProviderName + "}";
+    }
+}
@@ -12,4 +12,16 @@ public class StringHelper {
         return bytes == null ? null : new String(bytes, UTF_8);
     }
 
+    public static String trimSlashes(String path) {
+        int start = 0;
+        int end = path.length();
+        while (start < end && path.charAt(start) == '/') {
+            start++;
+        }
+        while (end > start && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(start, end);
+    }
+
 }
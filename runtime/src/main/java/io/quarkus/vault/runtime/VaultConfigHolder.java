@@ -2,11 +2,13 @@ package io.quarkus.vault.runtime;
 
 import jakarta.inject.Singleton;
 
+import io.quarkus.vault.runtime.config.VaultConfigSource;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
 
 @Singleton
 public class VaultConfigHolder {
     VaultRuntimeConfig vaultRuntimeConfig;
+    VaultConfigSource vaultConfigSource;
 
     public VaultRuntimeConfig getVaultRuntimeConfig() {
         return vaultRuntimeConfig;
@@ -16,4 +18,16 @@ public class VaultConfigHolder {
         this.vaultRuntimeConfig = vaultRuntimeConfig;
         return this;
     }
+
+    /**
+     * The config source created with the current runtime config, or null if properties are not read from Vault.
+     */
+    public VaultConfigSource getVaultConfigSource() {
+        return vaultConfigSource;
+    }
+
+    public VaultConfigHolder setVaultConfigSource(VaultConfigSource vaultConfigSource) {
+        this.vaultConfigSource = vaultConfigSource;
+        return this;
+    }
 }
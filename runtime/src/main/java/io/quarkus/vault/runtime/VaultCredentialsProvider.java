@@ -1,79 +1,183 @@
 package io.quarkus.vault.runtime;
 
+import static io.quarkus.vault.runtime.StringHelper.trimSlashes;
 import static io.quarkus.vault.runtime.config.CredentialsProviderConfig.DATABASE_DEFAULT_MOUNT;
 import static io.quarkus.vault.runtime.config.CredentialsProviderConfig.DEFAULT_REQUEST_PATH;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Event;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 
+import org.jboss.logging.Logger;
+
 import io.quarkus.credentials.CredentialsProvider;
-import io.quarkus.vault.VaultKVSecretEngine;
+import io.quarkus.vault.VaultKVSecretReactiveEngine;
 import io.quarkus.vault.client.VaultException;
+import io.quarkus.vault.credentials.VaultCredentialsRotatedEvent;
 import io.quarkus.vault.runtime.config.CredentialsProviderConfig;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
 @Named("vault-credentials-provider")
 public class VaultCredentialsProvider implements CredentialsProvider {
 
+    private static final Logger log = Logger.getLogger(VaultCredentialsProvider.class.getName());
+
+    private record KvCredentials(Map<String, String> credentials, Instant expiresAt) {
+    }
+
     @Inject
-    VaultKVSecretEngine vaultKVSecretEngine;
+    VaultKVSecretReactiveEngine vaultKVSecretEngine;
     @Inject
     VaultDynamicCredentialsManager vaultDynamicCredentialsManager;
     @Inject
     VaultConfigHolder vaultConfigHolder;
+    @Inject
+    Event<VaultCredentialsRotatedEvent> credentialsRotatedEvent;
+
+    private final ConcurrentHashMap<String, KvCredentials> kvCredentialsCache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<Map<String, String>>> kvRefreshing = new ConcurrentHashMap<>();
 
     @SuppressWarnings("deprecation")
     @Override
     public Map<String, String> getCredentials(String credentialsProviderName) {
+        return getCredentialsAsync(credentialsProviderName).await().indefinitely();
+    }
+
+    @Override
+    public Uni<Map<String, String>> getCredentialsAsync(String credentialsProviderName) {
 
         VaultRuntimeConfig vaultConfig = getConfig();
         if (vaultConfig == null) {
-            throw new VaultException(
-                    "missing Vault configuration required for credentials providers with name " + credentialsProviderName);
+            return Uni.createFrom().failure(new VaultException(
+                    "missing Vault configuration required for credentials providers with name " + credentialsProviderName));
         }
 
         CredentialsProviderConfig config = vaultConfig.credentialsProvider().get(credentialsProviderName);
 
         if (config == null) {
-            throw new VaultException("unknown credentials provider with name " + credentialsProviderName);
+            return Uni.createFrom().failure(
+                    new VaultException("unknown credentials provider with name " + credentialsProviderName));
         }
 
         if (config.databaseCredentialsRole().isPresent()) {
             return vaultDynamicCredentialsManager.getDynamicCredentials(DATABASE_DEFAULT_MOUNT, DEFAULT_REQUEST_PATH,
-                    config.databaseCredentialsRole().get()).await().indefinitely();
+                    config.databaseCredentialsRole().get());
         }
 
         if (config.credentialsRole().isPresent()) {
-            return vaultDynamicCredentialsManager
-                    .getDynamicCredentials(config.credentialsMount(), config.credentialsRequestPath(),
-                            config.credentialsRole().get())
-                    .await().indefinitely();
+            return vaultDynamicCredentialsManager.getDynamicCredentials(config.credentialsMount(),
+                    config.credentialsRequestPath(), config.credentialsRole().get());
         }
 
         if (config.kvPath().isPresent()) {
-            String kvPasswordKey = config.kvKey().orElseGet(config::kvPasswordKey);
-            var val = vaultKVSecretEngine.readSecretJson(config.kvPath().get());
-            if (val == null) {
-                throw new VaultException(
-                        "unable to retrieve credential " + kvPasswordKey + " from path " + config.kvPath().get());
-            }
-            String password = String.valueOf(val.get(kvPasswordKey));
-            Map<String, String> result = new HashMap<>();
-            result.put(PASSWORD_PROPERTY_NAME, password);
-            Object username = val.get(config.kvUsernameKey());
-            if (username != null) {
-                result.put(USER_PROPERTY_NAME, String.valueOf(username));
+            return getKvCredentials(credentialsProviderName, config);
+        }
+
+        return Uni.createFrom().failure(new VaultException(
+                "one of database-credentials-role or kv-path is required on credentials provider "
+                        + credentialsProviderName));
+    }
+
+    private Uni<Map<String, String>> getKvCredentials(String credentialsProviderName, CredentialsProviderConfig config) {
+        Duration cachePeriod = config.kvCachePeriod();
+        if (cachePeriod.isZero() || cachePeriod.isNegative()) {
+            return readKvCredentials(config);
+        }
+        KvCredentials cached = kvCredentialsCache.get(credentialsProviderName);
+        Uni<Map<String, String>> credentials;
+        if (cached != null && Instant.now().isBefore(cached.expiresAt())) {
+            credentials = Uni.createFrom().item(cached.credentials());
+        } else {
+            // callers cancelling must not cancel the refresh shared with other callers
+            credentials = Uni.createFrom()
+                    .completionStage(() -> refreshKvCredentials(credentialsProviderName, config).minimalCompletionStage());
+        }
+        return credentials.map(HashMap::new);
+    }
+
+    /**
+     * Expires the cached credentials read from the secret at {@code path} of the kv engine mounted at
+     * {@code mountPath}. The credentials are kept to be returned if the next read fails.
+     */
+    public void invalidateKvCredentials(String mountPath, String path) {
+        VaultRuntimeConfig vaultConfig = getConfig();
+        if (vaultConfig == null || !mountPath.equals(trimSlashes(vaultConfig.kvSecretEngineMountPath()))) {
+            return;
+        }
+        vaultConfig.credentialsProvider().forEach((name, config) -> {
+            if (config.kvPath().isPresent() && path.equals(trimSlashes(config.kvPath().get()))) {
+                kvCredentialsCache.computeIfPresent(name,
+                        (key, cached) -> new KvCredentials(cached.credentials(), Instant.EPOCH));
             }
-            return result;
+        });
+    }
+
+    /**
+     * Reads the credentials of a provider from the kv store, with at most one read in flight per provider.
+     * The last credentials read are returned if vault cannot be reached.
+     */
+    private CompletableFuture<Map<String, String>> refreshKvCredentials(String credentialsProviderName,
+            CredentialsProviderConfig config) {
+        var created = new CompletableFuture<Map<String, String>>();
+        var inFlight = kvRefreshing.putIfAbsent(credentialsProviderName, created);
+        if (inFlight != null) {
+            return inFlight;
         }
+        readKvCredentials(config).subscribe().with(
+                credentials -> {
+                    Map<String, String> copy = Map.copyOf(credentials);
+                    KvCredentials previous = kvCredentialsCache.put(credentialsProviderName,
+                            new KvCredentials(copy, Instant.now().plus(config.kvCachePeriod())));
+                    kvRefreshing.remove(credentialsProviderName, created);
+                    created.complete(copy);
+                    if (previous != null && !previous.credentials().equals(copy)) {
+                        log.debug("credentials of provider " + credentialsProviderName + " have been rotated");
+                        credentialsRotatedEvent.fireAsync(new VaultCredentialsRotatedEvent(credentialsProviderName));
+                    }
+                },
+                failure -> {
+                    kvRefreshing.remove(credentialsProviderName, created);
+                    KvCredentials stale = kvCredentialsCache.get(credentialsProviderName);
+                    // like VaultCacheEntry.tryReturnLastKnownValue, only when vault could not be reached
+                    if (stale != null && failure.getCause() instanceof IOException) {
+                        log.warn("unable to refresh credentials of provider " + credentialsProviderName
+                                + ", using the last credentials read: " + failure.getMessage());
+                        created.complete(stale.credentials());
+                    } else {
+                        created.completeExceptionally(failure);
+                    }
+                });
+        return created;
+    }
 
-        throw new VaultException(
-                "one of database-credentials-role or kv-path is required on credentials provider " + credentialsProviderName);
+    private Uni<Map<String, String>> readKvCredentials(CredentialsProviderConfig config) {
+        String kvPath = config.kvPath().get();
+        String kvPasswordKey = config.kvKey().orElseGet(config::kvPasswordKey);
+        return vaultKVSecretEngine.readSecretJson(kvPath)
+                .map(val -> {
+                    if (val == null) {
+                        throw new VaultException("unable to retrieve credential " + kvPasswordKey + " from path " + kvPath);
+                    }
+                    String password = String.valueOf(val.get(kvPasswordKey));
+                    Map<String, String> result = new HashMap<>();
+                    result.put(PASSWORD_PROPERTY_NAME, password);
+                    Object username = val.get(config.kvUsernameKey());
+                    if (username != null) {
+                        result.put(USER_PROPERTY_NAME, String.valueOf(username));
+                    }
+                    return result;
+                });
     }
 
     private VaultRuntimeConfig getConfig() {
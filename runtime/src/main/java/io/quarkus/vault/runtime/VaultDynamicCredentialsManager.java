@@ -3,12 +3,26 @@ package io.quarkus.vault.runtime;
 import static io.quarkus.credentials.CredentialsProvider.EXPIRATION_TIMESTAMP_PROPERTY_NAME;
 import static io.quarkus.credentials.CredentialsProvider.PASSWORD_PROPERTY_NAME;
 import static io.quarkus.credentials.CredentialsProvider.USER_PROPERTY_NAME;
+import static io.quarkus.vault.runtime.config.CredentialsProviderConfig.DATABASE_DEFAULT_MOUNT;
+import static io.quarkus.vault.runtime.config.CredentialsProviderConfig.DEFAULT_REQUEST_PATH;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.event.Event;
+import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
 import org.jboss.logging.Logger;
@@ -19,6 +33,8 @@ import io.quarkus.vault.client.api.common.VaultAnyResult;
 import io.quarkus.vault.client.common.VaultLeasedResultExtractor;
 import io.quarkus.vault.client.common.VaultRequest;
 import io.quarkus.vault.client.common.VaultResponse;
+import io.quarkus.vault.credentials.VaultCredentialsRotatedEvent;
+import io.quarkus.vault.runtime.config.CredentialsProviderConfig;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
 import io.smallrye.mutiny.Uni;
 
@@ -27,13 +43,30 @@ public class VaultDynamicCredentialsManager {
 
     private static final Logger log = Logger.getLogger(VaultDynamicCredentialsManager.class.getName());
 
+    private static final Duration RENEWAL_RETRY_DELAY = Duration.ofSeconds(30);
+
     private final ConcurrentHashMap<String, VaultDynamicCredentials> credentialsCache = new ConcurrentHashMap<>();
     private final VaultClient vaultClient;
     private final VaultConfigHolder vaultConfigHolder;
+    private final Event<VaultCredentialsRotatedEvent> credentialsRotatedEvent;
+    private final Duration renewalRetryDelay;
+    private final ConcurrentHashMap<String, CompletableFuture<VaultDynamicCredentials>> refreshing = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ScheduledFuture<?>> renewals = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+    private boolean closed;
+
+    @Inject
+    public VaultDynamicCredentialsManager(VaultClient vaultClient, VaultConfigHolder vaultConfigHolder,
+            Event<VaultCredentialsRotatedEvent> credentialsRotatedEvent) {
+        this(vaultClient, vaultConfigHolder, credentialsRotatedEvent, RENEWAL_RETRY_DELAY);
+    }
 
-    public VaultDynamicCredentialsManager(VaultClient vaultClient, VaultConfigHolder vaultConfigHolder) {
+    VaultDynamicCredentialsManager(VaultClient vaultClient, VaultConfigHolder vaultConfigHolder,
+            Event<VaultCredentialsRotatedEvent> credentialsRotatedEvent, Duration renewalRetryDelay) {
         this.vaultClient = vaultClient;
         this.vaultConfigHolder = vaultConfigHolder;
+        this.credentialsRotatedEvent = credentialsRotatedEvent;
+        this.renewalRetryDelay = renewalRetryDelay;
     }
 
     private String getCredentialsPath(String mount, String requestPath) {
@@ -49,7 +82,171 @@ public class VaultDynamicCredentialsManager {
     }
 
     void putCachedCredentials(String mount, String requestPath, String role, VaultDynamicCredentials credentials) {
-        credentialsCache.put(getCredentialsCacheKey(mount, requestPath, role), credentials);
+        String key = getCredentialsCacheKey(mount, requestPath, role);
+        credentialsCache.put(key, credentials);
+        scheduleRenewal(key, mount, requestPath, role, credentials);
+    }
+
+    private synchronized ScheduledExecutorService getScheduler() {
+        if (closed) {
+            throw new RejectedExecutionException("dynamic credentials manager is closed");
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                var thread = new Thread(runnable, "vault-dynamic-credentials");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = getConfig().dynamicCredentialsValidationPeriod().toMillis();
+            if (period > 0) {
+                scheduler.scheduleWithFixedDelay(this::validateCachedCredentials, period, period, TimeUnit.MILLISECONDS);
+            }
+        }
+        return scheduler;
+    }
+
+    @PreDestroy
+    synchronized void stopScheduler() {
+        closed = true;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        renewals.clear();
+    }
+
+    /**
+     * Schedules the renewal of cached credentials ahead of their expiration: the lease is extended once within the
+     * renew grace period, and new credentials are created once the lease approaches its max ttl. The current
+     * credentials are served until the new ones are cached, so callers do not wait for a scheduled renewal.
+     */
+    private void scheduleRenewal(String key, String mount, String requestPath, String role,
+            VaultDynamicCredentials credentials) {
+        Instant now = Instant.now();
+        Instant expiration = credentials.getExpireInstant();
+        Duration ahead = Duration.between(now, expiration.minus(getConfig().renewGracePeriod()));
+        // never sooner than half of the remaining lifetime, not to loop on leases shorter than the grace period
+        Duration halfLife = Duration.between(now, expiration).dividedBy(2);
+        Duration delay = ahead.compareTo(halfLife) > 0 ? ahead : halfLife;
+        schedule(key, mount, requestPath, role, delay.isNegative() ? Duration.ZERO : delay);
+    }
+
+    private void schedule(String key, String mount, String requestPath, String role, Duration delay) {
+        ScheduledFuture<?> renewal;
+        try {
+            renewal = getScheduler().schedule(() -> renew(key, mount, requestPath, role), delay.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // shutting down
+            return;
+        }
+        ScheduledFuture<?> previous = renewals.put(key, renewal);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void renew(String key, String mount, String requestPath, String role) {
+        VaultDynamicCredentials current = credentialsCache.get(key);
+        if (current == null) {
+            return;
+        }
+        refresh(key, mount, requestPath, role).whenComplete((credentials, failure) -> {
+            if (failure == null && credentials == current) {
+                // not due yet, e.g. extended concurrently by an earlier renewal
+                scheduleRenewal(key, mount, requestPath, role, credentials);
+            } else if (failure != null) {
+                log.warn("unable to renew " + role + "(" + getCredentialsPath(mount, requestPath) + ") credentials: "
+                        + failure.getMessage());
+                if (!current.isExpired()) {
+                    schedule(key, mount, requestPath, role, renewalRetryDelay);
+                }
+            }
+        });
+    }
+
+    /**
+     * Extends or recreates the credentials of a cache key if necessary, with at most one refresh in flight per key.
+     */
+    private CompletableFuture<VaultDynamicCredentials> refresh(String key, String mount, String requestPath,
+            String role) {
+        var created = new CompletableFuture<VaultDynamicCredentials>();
+        var inFlight = refreshing.putIfAbsent(key, created);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        VaultDynamicCredentials current = credentialsCache.get(key);
+        getCredentials(current, mount, requestPath, role).subscribe().with(
+                credentials -> {
+                    if (credentials != current) {
+                        putCachedCredentials(mount, requestPath, role, credentials);
+                    }
+                    refreshing.remove(key, created);
+                    created.complete(credentials);
+                    if (current != null && (!Objects.equals(current.username, credentials.username)
+                            || !Objects.equals(current.password, credentials.password))) {
+                        fireRotated(key);
+                    }
+                },
+                failure -> {
+                    refreshing.remove(key, created);
+                    created.completeExceptionally(failure);
+                });
+        return created;
+    }
+
+    /**
+     * Checks the leases of cached credentials with Vault, and evicts the credentials whose lease has expired or
+     * has been revoked.
+     */
+    void validateCachedCredentials() {
+        credentialsCache.forEach((key, credentials) -> {
+            if (credentials.isExpired()) {
+                evict(key, credentials);
+                return;
+            }
+            validate(Optional.of(credentials)).subscribe().with(
+                    valid -> {
+                        if (valid.isEmpty()) {
+                            evict(key, credentials);
+                        }
+                    },
+                    failure -> log.debug("unable to validate lease " + credentials.leaseId + ": " + failure.getMessage()));
+        });
+    }
+
+    private void evict(String key, VaultDynamicCredentials credentials) {
+        if (credentialsCache.remove(key, credentials)) {
+            ScheduledFuture<?> renewal = renewals.remove(key);
+            if (renewal != null) {
+                renewal.cancel(false);
+            }
+            fireRotated(key);
+        }
+    }
+
+    /**
+     * Notifies the credentials providers using the credentials of a cache key that connections opened with the
+     * previous credentials should be replaced.
+     */
+    private void fireRotated(String key) {
+        getConfig().credentialsProvider().forEach((name, config) -> {
+            if (key.equals(getCredentialsCacheKey(config))) {
+                log.debug("credentials of provider " + name + " have been rotated");
+                credentialsRotatedEvent.fireAsync(new VaultCredentialsRotatedEvent(name));
+            }
+        });
+    }
+
+    private String getCredentialsCacheKey(CredentialsProviderConfig config) {
+        if (config.databaseCredentialsRole().isPresent()) {
+            return getCredentialsCacheKey(DATABASE_DEFAULT_MOUNT, DEFAULT_REQUEST_PATH, config.databaseCredentialsRole().get());
+        }
+        if (config.credentialsRole().isPresent()) {
+            return getCredentialsCacheKey(config.credentialsMount(), config.credentialsRequestPath(),
+                    config.credentialsRole().get());
+        }
+        return null;
     }
 
     private VaultRuntimeConfig getConfig() {
@@ -57,23 +254,46 @@ public class VaultDynamicCredentialsManager {
     }
 
     public Uni<Map<String, String>> getDynamicCredentials(String mount, String requestPath, String role) {
-        VaultDynamicCredentials currentCredentials = getCachedCredentials(mount, requestPath, role);
-        return getCredentials(currentCredentials, mount, requestPath, role)
-                .map(credentials -> {
-                    putCachedCredentials(mount, requestPath, role, credentials);
+        String key = getCredentialsCacheKey(mount, requestPath, role);
+        VaultDynamicCredentials currentCredentials = credentialsCache.get(key);
+        Uni<VaultDynamicCredentials> credentials;
+        if (currentCredentials != null && isUsable(key, currentCredentials)) {
+            credentials = Uni.createFrom().item(currentCredentials);
+        } else {
+            // callers cancelling must not cancel the refresh shared with other callers
+            credentials = Uni.createFrom()
+                    .completionStage(() -> refresh(key, mount, requestPath, role).minimalCompletionStage());
+        }
+        return credentials
+                .map(c -> {
                     Map<String, String> properties = new HashMap<>();
-                    properties.put(USER_PROPERTY_NAME, credentials.username);
-                    properties.put(PASSWORD_PROPERTY_NAME, credentials.password);
-                    properties.put(EXPIRATION_TIMESTAMP_PROPERTY_NAME, credentials.getExpireInstant().toString());
+                    properties.put(USER_PROPERTY_NAME, c.username);
+                    properties.put(PASSWORD_PROPERTY_NAME, c.password);
+                    properties.put(EXPIRATION_TIMESTAMP_PROPERTY_NAME, c.getExpireInstant().toString());
                     return properties;
                 });
     }
 
+    /**
+     * Unexpired credentials are usable while a renewal is scheduled or in flight, even within the grace period,
+     * e.g. when the lease ttl is shorter than the grace period.
+     */
+    private boolean isUsable(String key, VaultDynamicCredentials credentials) {
+        if (credentials.isExpired()) {
+            return false;
+        }
+        Duration gracePeriod = getConfig().renewGracePeriod();
+        if (!credentials.shouldExtend(gracePeriod) && !credentials.expiresSoon(gracePeriod)) {
+            return true;
+        }
+        ScheduledFuture<?> renewal = renewals.get(key);
+        return (renewal != null && !renewal.isDone()) || refreshing.containsKey(key);
+    }
+
     public Uni<VaultDynamicCredentials> getCredentials(VaultDynamicCredentials currentCredentials, String mount,
             String requestPath, String role) {
+        // the lease is validated in the background, see validateCachedCredentials
         return Uni.createFrom().item(Optional.ofNullable(currentCredentials))
-                // check lease is still valid
-                .flatMap(this::validate)
                 // extend lease if necessary
                 .flatMap(credentials -> {
                     if (credentials.isPresent() && credentials.get().shouldExtend(getConfig().renewGracePeriod())) {
@@ -16,6 +16,7 @@ import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
 import io.quarkus.vault.runtime.kv.KvV1;
 import io.quarkus.vault.runtime.kv.KvV2;
 import io.quarkus.vault.runtime.kv.VersionedKv;
+import io.quarkus.vault.runtime.kv.VersionedSecret;
 import io.smallrye.mutiny.Uni;
 
 @ApplicationScoped
@@ -58,6 +59,17 @@ public class VaultKvManager implements VaultKVSecretReactiveEngine {
         return Objects.requireNonNull(engines.get(alias));
     }
 
+    /**
+     * Reads the current version of a secret, or null if the engine is not versioned.
+     */
+    public Uni<Integer> readCurrentVersion(String alias, String path) {
+        return getEngine(alias).readCurrentVersion(path);
+    }
+
+    public Uni<VersionedSecret> readVersionedSecretJson(String alias, String path) {
+        return getEngine(alias).readVersionedSecretJson(path);
+    }
+
     @Override
     public Uni<Map<String, String>> readSecret(String path) {
         return readSecret(DEFAULT, path);
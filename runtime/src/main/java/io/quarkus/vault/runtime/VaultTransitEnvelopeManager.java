@@ -0,0 +1,242 @@
+package io.quarkus.vault.runtime;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.vault.VaultTransitEnvelopeReactiveEngine;
+import io.quarkus.vault.VaultTransitSecretReactiveEngine;
+import io.quarkus.vault.client.VaultException;
+import io.quarkus.vault.runtime.config.VaultTransitEnvelopeConfig;
+import io.quarkus.vault.transit.ClearData;
+import io.quarkus.vault.transit.TransitContext;
+import io.quarkus.vault.transit.VaultTransitDataKeyRequestDetail;
+import io.quarkus.vault.transit.VaultTransitDataKeyType;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Envelope encryption on top of transit data keys.
+ * <p>
+ * Cipher texts have the form {@code vault:envelope:v1:<wrapped data key>:<nonce and encrypted payload>}, both
+ * parts being base64 encoded. Payloads are encrypted with AES-GCM, using the wrapped data key as additional
+ * authenticated data so that a payload cannot be paired with another data key.
+ */
+@ApplicationScoped
+public class VaultTransitEnvelopeManager implements VaultTransitEnvelopeReactiveEngine {
+
+    private static final Logger log = Logger.getLogger(VaultTransitEnvelopeManager.class.getName());
+
+    static final String PREFIX = "vault:envelope:v1:";
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_LENGTH_BITS = 128;
+
+    private record DataKeyId(String keyName, String context) {
+    }
+
+    private record WrappedKeyId(String keyName, String context, String wrappedKey) {
+    }
+
+    private static final class DataKey {
+
+        final String wrappedKey;
+        final SecretKey key;
+        final Instant expiresAt;
+        final AtomicLong encryptions = new AtomicLong();
+
+        DataKey(String wrappedKey, SecretKey key, Instant expiresAt) {
+            this.wrappedKey = wrappedKey;
+            this.key = key;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Reserves one encryption with this data key, failing once the key has expired or has been used for
+         * {@code maxEncryptions} encryptions, whatever the number of concurrent callers.
+         */
+        boolean reserve(long maxEncryptions) {
+            return Instant.now().isBefore(expiresAt) && encryptions.incrementAndGet() <= maxEncryptions;
+        }
+    }
+
+    private final VaultTransitSecretReactiveEngine transit;
+    private final VaultConfigHolder vaultConfigHolder;
+    private final SecureRandom random = new SecureRandom();
+    private final ConcurrentHashMap<DataKeyId, CompletableFuture<DataKey>> dataKeys = new ConcurrentHashMap<>();
+    private final AsyncCache<WrappedKeyId, SecretKey> unwrappedKeys;
+
+    @Inject
+    public VaultTransitEnvelopeManager(VaultTransitSecretReactiveEngine transit, VaultConfigHolder vaultConfigHolder) {
+        this.transit = transit;
+        this.vaultConfigHolder = vaultConfigHolder;
+        var config = getConfig();
+        this.unwrappedKeys = Caffeine.newBuilder()
+                .maximumSize(config.decryptionCacheSize())
+                .expireAfterAccess(config.maxAge())
+                .buildAsync();
+    }
+
+    private VaultTransitEnvelopeConfig getConfig() {
+        return vaultConfigHolder.getVaultRuntimeConfig().transit().envelope();
+    }
+
+    @Override
+    public Uni<String> encrypt(String keyName, String clearData) {
+        return encrypt(keyName, new ClearData(clearData), null);
+    }
+
+    @Override
+    public Uni<String> encrypt(String keyName, ClearData clearData, TransitContext transitContext) {
+        var id = new DataKeyId(keyName, encodeContext(transitContext));
+        return Uni.createFrom().completionStage(() -> dataKey(id))
+                .map(dataKey -> PREFIX + dataKey.wrappedKey + ":" + encrypt(dataKey, clearData.getValue()));
+    }
+
+    @Override
+    public Uni<ClearData> decrypt(String keyName, String ciphertext) {
+        return decrypt(keyName, ciphertext, null);
+    }
+
+    @Override
+    public Uni<ClearData> decrypt(String keyName, String ciphertext, TransitContext transitContext) {
+        if (ciphertext == null || !ciphertext.startsWith(PREFIX)) {
+            return Uni.createFrom().failure(new VaultException("not an envelope ciphertext"));
+        }
+        var separator = ciphertext.indexOf(':', PREFIX.length());
+        if (separator < 0) {
+            return Uni.createFrom().failure(new VaultException("malformed envelope ciphertext"));
+        }
+        var wrappedKey = ciphertext.substring(PREFIX.length(), separator);
+        var payload = ciphertext.substring(separator + 1);
+        var context = encodeContext(transitContext);
+        var id = new WrappedKeyId(keyName, context, wrappedKey);
+
+        return Uni.createFrom()
+                .completionStage(() -> unwrappedKeys.get(id, (k, executor) -> unwrap(k, transitContext)))
+                .map(key -> new ClearData(decrypt(key, wrappedKey, payload)));
+    }
+
+    /**
+     * Returns a data key with one encryption reserved for the caller, generating a new data key when the current
+     * one is exhausted.
+     */
+    private CompletableFuture<DataKey> dataKey(DataKeyId id) {
+        var config = getConfig();
+        while (true) {
+            var current = dataKeys.get(id);
+            if (current == null) {
+                var created = new CompletableFuture<DataKey>();
+                if (dataKeys.putIfAbsent(id, created) == null) {
+                    generate(id, created);
+                    return created.thenCompose(ignored -> dataKey(id));
+                }
+            } else if (!current.isDone()) {
+                // callers waiting for the same generation compete for its encryptions once it is done
+                return current.thenCompose(ignored -> dataKey(id));
+            } else if (!current.isCompletedExceptionally()) {
+                var dataKey = current.join();
+                if (dataKey.reserve(config.maxEncryptions())) {
+                    return current;
+                }
+                log.debugf("rotating data key of transit key %s", id.keyName());
+                dataKeys.remove(id, current);
+            } else {
+                dataKeys.remove(id, current);
+            }
+        }
+    }
+
+    private void generate(DataKeyId id, CompletableFuture<DataKey> result) {
+        var detail = id.context() != null ? new VaultTransitDataKeyRequestDetail().setContext(id.context()) : null;
+        transit.generateDataKey(VaultTransitDataKeyType.plaintext, id.keyName(), detail)
+                .subscribe().with(
+                        generated -> {
+                            var wrappedKey = Base64.getEncoder().encodeToString(generated.getCiphertext().getBytes(UTF_8));
+                            var key = new SecretKeySpec(Base64.getDecoder().decode(generated.getPlaintext()), "AES");
+                            // locally generated data keys never need to be unwrapped by Vault
+                            unwrappedKeys.put(new WrappedKeyId(id.keyName(), id.context(), wrappedKey),
+                                    CompletableFuture.completedFuture(key));
+                            result.complete(new DataKey(wrappedKey, key, Instant.now().plus(getConfig().maxAge())));
+                        },
+                        failure -> {
+                            dataKeys.remove(id, result);
+                            result.completeExceptionally(failure);
+                        });
+    }
+
+    private CompletableFuture<SecretKey> unwrap(WrappedKeyId id, TransitContext transitContext) {
+        String ciphertext;
+        try {
+            ciphertext = new String(Base64.getDecoder().decode(id.wrappedKey()), UTF_8);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new VaultException("malformed envelope ciphertext", e));
+        }
+        log.debugf("unwrapping data key with transit key %s", id.keyName());
+        return transit.decrypt(id.keyName(), ciphertext, transitContext)
+                .map(clearData -> (SecretKey) new SecretKeySpec(clearData.getValue(), "AES"))
+                .subscribeAsCompletionStage();
+    }
+
+    private String encrypt(DataKey dataKey, byte[] clearData) {
+        var nonce = new byte[NONCE_LENGTH];
+        random.nextBytes(nonce);
+        try {
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.ENCRYPT_MODE, dataKey.key, new GCMParameterSpec(TAG_LENGTH_BITS, nonce));
+            cipher.updateAAD(dataKey.wrappedKey.getBytes(UTF_8));
+            var output = ByteBuffer.allocate(NONCE_LENGTH + cipher.getOutputSize(clearData.length));
+            output.put(nonce);
+            cipher.doFinal(ByteBuffer.wrap(clearData), output);
+            return Base64.getEncoder().encodeToString(output.array());
+        } catch (GeneralSecurityException e) {
+            throw new VaultException("unable to encrypt data", e);
+        }
+    }
+
+    private byte[] decrypt(SecretKey key, String wrappedKey, String payload) {
+        byte[] input;
+        try {
+            input = Base64.getDecoder().decode(payload);
+        } catch (IllegalArgumentException e) {
+            throw new VaultException("malformed envelope ciphertext", e);
+        }
+        if (input.length < NONCE_LENGTH) {
+            throw new VaultException("malformed envelope ciphertext");
+        }
+        try {
+            var cipher = Cipher.getInstance(CIPHER);
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH_BITS, input, 0, NONCE_LENGTH));
+            cipher.updateAAD(wrappedKey.getBytes(UTF_8));
+            return cipher.doFinal(input, NONCE_LENGTH, input.length - NONCE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new VaultException("unable to decrypt data", e);
+        }
+    }
+
+    private static String encodeContext(TransitContext transitContext) {
+        if (transitContext == null || transitContext.getContext() == null) {
+            return null;
+        }
+        return Base64.getEncoder().encodeToString(transitContext.getContext());
+    }
+}
@@ -7,11 +7,14 @@ import static java.util.Collections.singletonList;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -19,18 +22,29 @@ import java.util.stream.IntStream;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.quarkus.vault.VaultTransitSecretReactiveEngine;
 import io.quarkus.vault.client.VaultClient;
 import io.quarkus.vault.client.VaultException;
 import io.quarkus.vault.client.api.common.VaultHashAlgorithm;
 import io.quarkus.vault.client.api.secrets.transit.*;
 import io.quarkus.vault.runtime.config.TransitKeyConfig;
+import io.quarkus.vault.runtime.config.VaultTransitChunkingConfig;
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
 import io.quarkus.vault.runtime.transit.DecryptionResult;
 import io.quarkus.vault.runtime.transit.EncryptionResult;
 import io.quarkus.vault.runtime.transit.SigningResult;
 import io.quarkus.vault.runtime.transit.VaultTransitBatchResult;
+import io.quarkus.vault.runtime.transit.VaultTransitBatchStream;
+import io.quarkus.vault.runtime.transit.VaultTransitBatcher;
+import io.quarkus.vault.runtime.transit.VaultTransitBulkRewrapper;
+import io.quarkus.vault.runtime.transit.VaultTransitLocalVerifier;
 import io.quarkus.vault.runtime.transit.VerificationResult;
+import io.quarkus.vault.transit.BatchStreamOptions;
+import io.quarkus.vault.transit.BulkRewrappingOptions;
+import io.quarkus.vault.transit.BulkRewrappingProgress;
 import io.quarkus.vault.transit.ClearData;
 import io.quarkus.vault.transit.DecryptionRequest;
 import io.quarkus.vault.transit.EncryptionRequest;
@@ -41,6 +55,7 @@ import io.quarkus.vault.transit.SignVerifyOptions;
 import io.quarkus.vault.transit.SigningInput;
 import io.quarkus.vault.transit.SigningRequest;
 import io.quarkus.vault.transit.TransitContext;
+import io.quarkus.vault.transit.TransitResult;
 import io.quarkus.vault.transit.VaultDecryptionBatchException;
 import io.quarkus.vault.transit.VaultEncryptionBatchException;
 import io.quarkus.vault.transit.VaultRewrappingBatchException;
@@ -60,23 +75,60 @@ import io.quarkus.vault.transit.VerificationRequest;
 import io.quarkus.vault.utils.Plugs;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 @ApplicationScoped
 public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
 
+    /**
+     * Single item calls are only batched with calls for the same key that also have, or also lack, a context.
+     */
+    private record BatchKey(String keyName, boolean withContext) {
+    }
+
     private final VaultSecretsTransit transit;
     private final VaultConfigHolder vaultConfigHolder;
+    private final VaultTransitBatcher<BatchKey, EncryptionRequest, EncryptionResult> encryptionBatcher;
+    private final VaultTransitBatcher<BatchKey, DecryptionRequest, DecryptionResult> decryptionBatcher;
+    private final VaultTransitLocalVerifier localVerifier;
+    private final AsyncLoadingCache<String, VaultTransitKeyDetail<?>> keyDetails;
 
     @Inject
     public VaultTransitManager(VaultClient client, VaultConfigHolder configHolder) {
         this.transit = client.secrets().transit(configHolder.getVaultRuntimeConfig().transitSecretEngineMountPath());
         this.vaultConfigHolder = configHolder;
+
+        var transitConfig = configHolder.getVaultRuntimeConfig().transit();
+        this.localVerifier = transitConfig.localVerification()
+                ? new VaultTransitLocalVerifier(transit, transitConfig.keyMetadataCachePeriod())
+                : null;
+        this.keyDetails = transitConfig.rewrapSkipCurrent()
+                ? Caffeine.newBuilder()
+                        .expireAfterWrite(transitConfig.keyMetadataCachePeriod())
+                        .buildAsync((name, executor) -> transit.readKey(name).thenApply(this::map).toCompletableFuture())
+                : null;
+
+        var batching = transitConfig.batching();
+        if (batching.enabled()) {
+            var scheduler = Infrastructure.getDefaultWorkerPool();
+            this.encryptionBatcher = new VaultTransitBatcher<>(batching.window(), batching.maxSize(), scheduler,
+                    (key, requests) -> encryptBatch(key.keyName(), requests));
+            this.decryptionBatcher = new VaultTransitBatcher<>(batching.window(), batching.maxSize(), scheduler,
+                    (key, requests) -> decryptBatch(key.keyName(), requests));
+        } else {
+            this.encryptionBatcher = null;
+            this.decryptionBatcher = null;
+        }
     }
 
     private VaultRuntimeConfig getConfig() {
         return vaultConfigHolder.getVaultRuntimeConfig();
     }
 
+    private VaultTransitChunkingConfig getChunkingConfig() {
+        return getConfig().transit().chunking();
+    }
+
     @Override
     public Uni<String> encrypt(String keyName, String clearData) {
         return encrypt(keyName, new ClearData(clearData), null);
@@ -85,6 +137,10 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
     @Override
     public Uni<String> encrypt(String keyName, ClearData clearData, TransitContext transitContext) {
         EncryptionRequest item = new EncryptionRequest(clearData, transitContext);
+        if (encryptionBatcher != null) {
+            return encryptionBatcher.submit(new BatchKey(keyName, item.getContext() != null), item)
+                    .map(EncryptionResult::getValueOrElseError);
+        }
         return encryptBatch(keyName, singletonList(item)).map(results -> results.get(0).getValueOrElseError());
     }
 
@@ -122,7 +178,8 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
             return encrypt(keyName, request)
                     .map(result -> Map.of(request, result));
         }
-        return encryptBatch(keyName, requests)
+        return chunked(requests, getChunkingConfig().encryptMaxSize(), chunk -> encryptBatch(keyName, chunk),
+                error -> new EncryptionResult(null, error))
                 .map(results -> {
                     checkBatchErrors(results,
                             errors -> new VaultEncryptionBatchException(errors + " encryption errors",
@@ -131,6 +188,14 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
                 });
     }
 
+    @Override
+    public Multi<TransitResult<String>> encrypt(String keyName, Multi<EncryptionRequest> requests,
+            BatchStreamOptions options) {
+        Multi<EncryptionResult> results = VaultTransitBatchStream.process(requests, streamOptions(options),
+                batch -> encryptBatch(keyName, batch));
+        return toTransitResults(results);
+    }
+
     private Uni<List<EncryptionResult>> encryptBatch(String keyName, List<EncryptionRequest> requests) {
 
         var params = new VaultSecretsTransitEncryptBatchParams();
@@ -165,12 +230,17 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
     @Override
     public Uni<ClearData> decrypt(String keyName, String ciphertext, TransitContext transitContext) {
         DecryptionRequest item = new DecryptionRequest(ciphertext, transitContext);
+        if (decryptionBatcher != null) {
+            return decryptionBatcher.submit(new BatchKey(keyName, item.getContext() != null), item)
+                    .map(DecryptionResult::getValueOrElseError);
+        }
         return decryptBatch(keyName, singletonList(item)).map(results -> results.get(0).getValueOrElseError());
     }
 
     @Override
     public Uni<Map<DecryptionRequest, ClearData>> decrypt(String keyName, List<DecryptionRequest> requests) {
-        return decryptBatch(keyName, requests)
+        return chunked(requests, getChunkingConfig().decryptMaxSize(), chunk -> decryptBatch(keyName, chunk),
+                error -> new DecryptionResult(null, error))
                 .map(results -> {
                     checkBatchErrors(results,
                             errors -> new VaultDecryptionBatchException(errors + " decryption errors",
@@ -179,6 +249,14 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
                 });
     }
 
+    @Override
+    public Multi<TransitResult<ClearData>> decrypt(String keyName, Multi<DecryptionRequest> requests,
+            BatchStreamOptions options) {
+        Multi<DecryptionResult> results = VaultTransitBatchStream.process(requests, streamOptions(options),
+                batch -> decryptBatch(keyName, batch));
+        return toTransitResults(results);
+    }
+
     private Uni<List<DecryptionResult>> decryptBatch(String keyName, List<DecryptionRequest> requests) {
 
         var params = new VaultSecretsTransitDecryptBatchParams()
@@ -212,12 +290,15 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
     @Override
     public Uni<String> rewrap(String keyName, String ciphertext, TransitContext transitContext) {
         RewrappingRequest item = new RewrappingRequest(ciphertext, transitContext);
-        return rewrapBatch(keyName, singletonList(item)).map(results -> results.get(0).getValueOrElseError());
+        return rewrapOutdated(keyName, singletonList(item), outdated -> rewrapBatch(keyName, outdated))
+                .map(results -> results.get(0).getValueOrElseError());
     }
 
     @Override
     public Uni<Map<RewrappingRequest, String>> rewrap(String keyName, List<RewrappingRequest> requests) {
-        return rewrapBatch(keyName, requests)
+        return rewrapOutdated(keyName, requests,
+                outdated -> chunked(outdated, getChunkingConfig().rewrapMaxSize(), chunk -> rewrapBatch(keyName, chunk),
+                        error -> new EncryptionResult(null, error)))
                 .map(results -> {
                     checkBatchErrors(results,
                             errors -> new VaultRewrappingBatchException(errors + " rewrapping errors",
@@ -226,6 +307,90 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
                 });
     }
 
+    @Override
+    public Multi<BulkRewrappingProgress> rewrap(String keyName, Multi<RewrappingRequest> requests,
+            BulkRewrappingOptions options) {
+        var rewrapper = new VaultTransitBulkRewrapper(
+                batch -> rewrapOutdated(keyName, batch, outdated -> rewrapBatch(keyName, outdated)));
+        return rewrapper.rewrap(requests, options != null ? options : new BulkRewrappingOptions());
+    }
+
+    /**
+     * Rewraps only the ciphertexts that are not already encrypted with the target key version, the other ones are
+     * returned unchanged. All ciphertexts are rewrapped if key metadata is not cached or cannot be read.
+     */
+    private Uni<List<EncryptionResult>> rewrapOutdated(String keyName, List<RewrappingRequest> requests,
+            Function<List<RewrappingRequest>, Uni<List<EncryptionResult>>> rewrap) {
+
+        if (keyDetails == null) {
+            return rewrap.apply(requests);
+        }
+
+        TransitKeyConfig config = getTransitConfig(keyName);
+        String configKeyName = config != null ? config.name().orElse(keyName) : keyName;
+
+        return Uni.createFrom().completionStage(() -> keyDetails.get(configKeyName))
+                .onFailure().recoverWithNull()
+                .flatMap(detail -> {
+                    if (detail == null) {
+                        return rewrap.apply(requests);
+                    }
+                    int latestVersion = detail.getLatestVersion();
+                    List<Integer> outdated = new ArrayList<>();
+                    for (int i = 0; i < requests.size(); i++) {
+                        RewrappingRequest request = requests.get(i);
+                        int version = ciphertextVersion(request.getCiphertext());
+                        if (version > latestVersion) {
+                            // the key was rotated elsewhere since it was cached
+                            keyDetails.synchronous().invalidate(configKeyName);
+                        }
+                        Integer keyVersion = request.getKeyVersion();
+                        int targetVersion = keyVersion == null || keyVersion == 0 ? latestVersion : keyVersion;
+                        if (version == 0 || version != targetVersion) {
+                            outdated.add(i);
+                        }
+                    }
+                    if (outdated.size() == requests.size()) {
+                        return rewrap.apply(requests);
+                    }
+                    List<EncryptionResult> results = requests.stream()
+                            .map(request -> new EncryptionResult(request.getCiphertext(), null))
+                            .collect(toList());
+                    if (outdated.isEmpty()) {
+                        return Uni.createFrom().item(results);
+                    }
+                    return rewrap.apply(outdated.stream().map(requests::get).collect(toList()))
+                            .map(rewrapped -> {
+                                if (rewrapped.size() != outdated.size()) {
+                                    throw new VaultException("unable to zip " + outdated.size() + " requests with "
+                                            + rewrapped.size() + " results");
+                                }
+                                for (int i = 0; i < outdated.size(); i++) {
+                                    results.set(outdated.get(i), rewrapped.get(i));
+                                }
+                                return results;
+                            });
+                });
+    }
+
+    /**
+     * Returns the key version of a {@code vault:v<version>:} ciphertext, or 0 if it cannot be parsed.
+     */
+    private static int ciphertextVersion(String ciphertext) {
+        if (ciphertext == null || !ciphertext.startsWith("vault:v")) {
+            return 0;
+        }
+        int end = ciphertext.indexOf(':', "vault:v".length());
+        if (end < 0) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(ciphertext.substring("vault:v".length(), end));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
     private Uni<List<EncryptionResult>> rewrapBatch(String keyName, List<RewrappingRequest> requests) {
 
         var params = new VaultSecretsTransitRewrapBatchParams()
@@ -287,7 +452,7 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
                     // batch is complete, return the result from each request pair as a merged stream.
                     int keyVersion = group.key();
                     return group.collect().asList().onItem().transformToMulti(pairs -> {
-                        return signBatch(keyName, keyVersion, pairs, options)
+                        return signChunks(keyName, keyVersion, pairs, options)
                                 .onItem().transformToMulti(v -> {
                                     return Multi.createFrom().iterable(pairs).map(SigningRequestResultPair::getResult);
                                 });
@@ -301,6 +466,37 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
                 });
     }
 
+    @Override
+    public Multi<TransitResult<String>> sign(String keyName, Multi<SigningRequest> requests,
+            SignVerifyOptions signOptions, BatchStreamOptions options) {
+        Multi<SigningResult> results = VaultTransitBatchStream.process(requests, streamOptions(options), batch -> {
+            List<SigningRequestResultPair> pairs = batch.stream().map(SigningRequestResultPair::new).collect(toList());
+            // Vault signs a batch with a single key version
+            Map<Integer, List<SigningRequestResultPair>> byKeyVersion = pairs.stream()
+                    .collect(Collectors.groupingBy(SigningRequestResultPair::getKeyVersion, LinkedHashMap::new, toList()));
+            List<Uni<Void>> signings = byKeyVersion.entrySet().stream()
+                    .map(group -> signBatch(keyName, group.getKey(), group.getValue(), signOptions))
+                    .collect(toList());
+            return Uni.join().all(signings).andFailFast()
+                    .map(v -> pairs.stream().map(SigningRequestResultPair::getResult).collect(toList()));
+        });
+        return toTransitResults(results);
+    }
+
+    private Uni<Void> signChunks(String keyName, int keyVersion, List<SigningRequestResultPair> pairs,
+            SignVerifyOptions options) {
+        return chunked(pairs, getChunkingConfig().signMaxSize(),
+                chunk -> signBatch(keyName, keyVersion, chunk, options)
+                        .map(v -> chunk.stream().map(SigningRequestResultPair::getResult).collect(toList())),
+                error -> new SigningResult(null, error))
+                .map(results -> {
+                    for (int i = 0; i < pairs.size(); i++) {
+                        pairs.get(i).setResult(results.get(i));
+                    }
+                    return null;
+                });
+    }
+
     private Uni<Void> signBatch(String keyName, int keyVersion, List<SigningRequestResultPair> pairs,
             SignVerifyOptions options) {
 
@@ -385,7 +581,8 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
 
     @Override
     public Uni<Void> verifySignature(String keyName, List<VerificationRequest> requests, SignVerifyOptions options) {
-        return verifyBatch(keyName, requests, options)
+        return chunked(requests, getChunkingConfig().verifyMaxSize(), chunk -> verifyBatch(keyName, chunk, options),
+                error -> new VerificationResult(false, error))
                 .map(results -> {
                     Map<VerificationRequest, VerificationResult> resultMap = zip(requests, results);
                     checkBatchErrors(results,
@@ -394,6 +591,19 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
                 });
     }
 
+    @Override
+    public Multi<TransitResult<Boolean>> verifySignature(String keyName, Multi<VerificationRequest> requests,
+            SignVerifyOptions signOptions, BatchStreamOptions options) {
+        Multi<VerificationResult> results = VaultTransitBatchStream.process(requests, streamOptions(options),
+                batch -> verifyBatch(keyName, batch, signOptions));
+        return toTransitResults(results);
+    }
+
+    private static <V> Multi<TransitResult<V>> toTransitResults(
+            Multi<? extends VaultTransitBatchResult<V>> results) {
+        return results.map(result -> new TransitResult<>(result.getValue(), result.getError()));
+    }
+
     private Uni<List<VerificationResult>> verifyBatch(String keyName, List<VerificationRequest> requests,
             SignVerifyOptions options) {
 
@@ -422,16 +632,21 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
             configPrehashed = null;
         }
 
+        VaultTransitLocalVerifier.Options localOptions = new VaultTransitLocalVerifier.Options(null, null, null, null);
         if (options != null) {
-            params.setHashAlgorithm(VaultHashAlgorithm.from(defaultIfNull(options.getHashAlgorithm(), configHashAlgorithm)));
-            params.setSignatureAlgorithm(VaultSecretsTransitSignatureAlgorithm
-                    .from(defaultIfNull(options.getSignatureAlgorithm(), configSignatureAlgorithm)));
-            params.setPrehashed(defaultIfNull(options.getPrehashed(), configPrehashed));
-            params.setMarshalingAlgorithm(
-                    VaultSecretsTransitMarshalingAlgorithm.from(defaultIfNull(options.getMarshalingAlgorithm(), null)));
+            localOptions = new VaultTransitLocalVerifier.Options(
+                    defaultIfNull(options.getHashAlgorithm(), configHashAlgorithm),
+                    defaultIfNull(options.getSignatureAlgorithm(), configSignatureAlgorithm),
+                    defaultIfNull(options.getPrehashed(), configPrehashed),
+                    options.getMarshalingAlgorithm());
+            params.setHashAlgorithm(VaultHashAlgorithm.from(localOptions.hashAlgorithm()));
+            params.setSignatureAlgorithm(VaultSecretsTransitSignatureAlgorithm.from(localOptions.signatureAlgorithm()));
+            params.setPrehashed(localOptions.prehashed());
+            params.setMarshalingAlgorithm(VaultSecretsTransitMarshalingAlgorithm.from(localOptions.marshalingAlgorithm()));
         }
 
-        return Uni.createFrom().completionStage(transit.verifyBatch(configKeyName, params))
+        Uni<List<VerificationResult>> vaultVerification = Uni.createFrom()
+                .completionStage(() -> transit.verifyBatch(configKeyName, params))
                 .map(result -> result.stream()
                         .map(r -> {
                             if (r.getError() != null) {
@@ -441,6 +656,12 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
                             }
                         })
                         .collect(toList()));
+
+        if (localVerifier == null) {
+            return vaultVerification;
+        }
+        return localVerifier.verify(configKeyName, requests, localOptions)
+                .flatMap(local -> local.map(results -> Uni.createFrom().item(results)).orElse(vaultVerification));
     }
 
     @Override
@@ -469,18 +690,31 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
                 .setMinDecryptionVersion(detail.getMinDecryptionVersion())
                 .setMinEncryptionVersion(detail.getMinEncryptionVersion());
 
-        return Uni.createFrom().completionStage(transit.updateKey(keyName, params));
+        return Uni.createFrom().completionStage(transit.updateKey(keyName, params))
+                .invoke(() -> invalidateKey(keyName));
     }
 
     @Override
     public Uni<Void> rotateKey(String keyName) {
         var params = new VaultSecretsTransitRotateKeyParams();
-        return Uni.createFrom().completionStage(transit.rotateKey(keyName, params)).map(r -> null);
+        return Uni.createFrom().completionStage(transit.rotateKey(keyName, params))
+                .invoke(() -> invalidateKey(keyName))
+                .map(r -> null);
     }
 
     @Override
     public Uni<Void> deleteKey(String keyName) {
-        return Uni.createFrom().completionStage(transit.deleteKey(keyName));
+        return Uni.createFrom().completionStage(transit.deleteKey(keyName))
+                .invoke(() -> invalidateKey(keyName));
+    }
+
+    private void invalidateKey(String keyName) {
+        if (localVerifier != null) {
+            localVerifier.invalidate(keyName);
+        }
+        if (keyDetails != null) {
+            keyDetails.synchronous().invalidate(keyName);
+        }
     }
 
     @Override
@@ -573,6 +807,10 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
 
     // ---
 
+    private static BatchStreamOptions streamOptions(BatchStreamOptions options) {
+        return options != null ? options : new BatchStreamOptions();
+    }
+
     private void checkBatchErrors(List<? extends VaultTransitBatchResult<?>> results,
             Function<Long, ? extends VaultException> exceptionProducer) {
         long errors = results.stream().filter(VaultTransitBatchResult::isInError).count();
@@ -581,6 +819,42 @@ public class VaultTransitManager implements VaultTransitSecretReactiveEngine {
         }
     }
 
+    /**
+     * Sends requests in chunks of at most {@code maxSize} items, with a bounded number of chunks in flight, and
+     * reassembles the results in request order. A chunk failing as a whole yields an error result for each of its
+     * items, so that the caller reports it through its batch exception.
+     */
+    private <R, V> Uni<List<V>> chunked(List<R> requests, OptionalInt maxSize, Function<List<R>, Uni<List<V>>> batch,
+            Function<String, V> errorResult) {
+        if (maxSize.isEmpty() || requests.size() <= maxSize.getAsInt()) {
+            return batch.apply(requests);
+        }
+        int size = Math.max(1, maxSize.getAsInt());
+        int chunks = (requests.size() + size - 1) / size;
+        return Multi.createFrom().range(0, chunks)
+                .onItem().transformToUni(index -> {
+                    List<R> chunk = requests.subList(index * size, Math.min(requests.size(), (index + 1) * size));
+                    return batch.apply(chunk)
+                            .map(results -> {
+                                if (results.size() != chunk.size()) {
+                                    throw new VaultException("unable to zip " + chunk.size() + " requests with "
+                                            + results.size() + " results");
+                                }
+                                return results;
+                            })
+                            .onFailure().recoverWithItem(failure -> chunk.stream()
+                                    .map(r -> errorResult.apply(failure.getMessage()))
+                                    .collect(toList()))
+                            .map(results -> Map.entry(index, results));
+                })
+                .merge(getChunkingConfig().concurrency())
+                .collect().asList()
+                .map(entries -> entries.stream()
+                        .sorted(Entry.comparingByKey())
+                        .flatMap(entry -> entry.getValue().stream())
+                        .collect(toList()));
+    }
+
     private <K, V> Map<K, V> zip(List<K> keys, List<V> values) {
         return zip(keys, values, identity());
     }
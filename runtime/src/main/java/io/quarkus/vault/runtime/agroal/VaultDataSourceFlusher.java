@@ -0,0 +1,98 @@
+package io.quarkus.vault.runtime.agroal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.enterprise.event.ObservesAsync;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSource.FlushMode;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.vault.credentials.VaultCredentialsRotatedEvent;
+
+/**
+ * Replaces the connections of the datasources using a Vault credentials provider when its credentials are rotated.
+ * <p>
+ * Idle connections are closed right away, and active connections once they are returned to the pool. The pool is
+ * then filled up to its min size, so that the next requests do not wait for connections opened with the new
+ * credentials.
+ * <p>
+ * Only registered when the Agroal extension is present.
+ */
+@Singleton
+public class VaultDataSourceFlusher {
+
+    private static final Logger log = Logger.getLogger(VaultDataSourceFlusher.class.getName());
+
+    private static final String VAULT_CREDENTIALS_PROVIDER = "vault-credentials-provider";
+    private static final String DATASOURCE_PREFIX = "quarkus.datasource.";
+    private static final String CREDENTIALS_PROVIDER = "credentials-provider";
+    private static final String CREDENTIALS_PROVIDER_NAME = "credentials-provider-name";
+
+    void onCredentialsRotated(@ObservesAsync VaultCredentialsRotatedEvent event) {
+        for (String dataSourceName : getDataSourceNames(event.getCredentialsProviderName())) {
+            InjectableInstance<AgroalDataSource> instance = dataSourceName == null
+                    ? Arc.container().select(AgroalDataSource.class)
+                    : Arc.container().select(AgroalDataSource.class, new DataSource.DataSourceLiteral(dataSourceName));
+            if (!instance.isResolvable()) {
+                continue;
+            }
+            String displayName = dataSourceName == null ? "<default>" : dataSourceName;
+            try {
+                AgroalDataSource dataSource = instance.get();
+                dataSource.flush(FlushMode.GRACEFUL);
+                dataSource.flush(FlushMode.FILL);
+                log.debug("flushed connections of datasource " + displayName + " after credentials rotation");
+            } catch (RuntimeException e) {
+                log.warn("unable to flush connections of datasource " + displayName + " after credentials rotation: "
+                        + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Names of the datasources configured with a credentials provider, null standing for the default datasource.
+     */
+    private static List<String> getDataSourceNames(String credentialsProviderName) {
+        Config config = ConfigProvider.getConfig();
+        List<String> names = new ArrayList<>();
+        for (String property : config.getPropertyNames()) {
+            if (!property.startsWith(DATASOURCE_PREFIX) || !property.endsWith(CREDENTIALS_PROVIDER)) {
+                continue;
+            }
+            String dataSourceName;
+            if (property.equals(DATASOURCE_PREFIX + CREDENTIALS_PROVIDER)) {
+                dataSourceName = null;
+            } else if (property.endsWith("." + CREDENTIALS_PROVIDER)) {
+                dataSourceName = unquote(property.substring(DATASOURCE_PREFIX.length(),
+                        property.length() - CREDENTIALS_PROVIDER.length() - 1));
+            } else {
+                continue;
+            }
+            String prefix = dataSourceName == null ? DATASOURCE_PREFIX : property.substring(0,
+                    property.length() - CREDENTIALS_PROVIDER.length());
+            Optional<String> providerName = config.getOptionalValue(property, String.class);
+            Optional<String> beanName = config.getOptionalValue(prefix + CREDENTIALS_PROVIDER_NAME, String.class);
+            if (providerName.filter(credentialsProviderName::equals).isPresent()
+                    && beanName.filter(name -> !name.equals(VAULT_CREDENTIALS_PROVIDER)).isEmpty()) {
+                names.add(dataSourceName);
+            }
+        }
+        return names;
+    }
+
+    private static String unquote(String name) {
+        if (name.length() > 1 && name.startsWith("\"") && name.endsWith("\"")) {
+            return name.substring(1, name.length() - 1);
+        }
+        return name;
+    }
+}
@@ -7,6 +7,8 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.http.WebSocketClientOptions;
 import io.vertx.core.net.PemTrustOptions;
 import io.vertx.core.net.ProxyOptions;
 import io.vertx.ext.web.client.WebClient;
@@ -33,27 +35,66 @@ public class MutinyVertxClientFactory {
             options.setNonProxyHosts(vaultRuntimeConfig.nonProxyHosts().get());
         }
 
-        boolean trustAll = vaultRuntimeConfig.tls().skipVerify().orElseGet(() -> globalTrustAll);
-        if (trustAll) {
-            skipVerify(options);
-        } else if (vaultRuntimeConfig.tls().caCert().isPresent()) {
-            cacert(options, vaultRuntimeConfig.tls().caCert().get());
-        } else if (vaultRuntimeConfig.getAuthenticationType() == KUBERNETES
-                && vaultRuntimeConfig.tls().useKubernetesCaCert()) {
-            cacert(options, KUBERNETES_CACERT);
+        if (isTrustAll(vaultRuntimeConfig, globalTrustAll)) {
+            log.debug("configure tls with skip-verify");
+            options.setTrustAll(true);
+            options.setVerifyHost(false);
+        } else {
+            String cacert = getCacert(vaultRuntimeConfig);
+            if (cacert != null) {
+                log.debug("configure tls with " + cacert);
+                options.setTrustOptions(new PemTrustOptions().addCertPath(cacert));
+            }
         }
 
         return WebClient.create(vertx, options);
     }
 
-    private static void cacert(WebClientOptions options, String cacert) {
-        log.debug("configure tls with " + cacert);
-        options.setTrustOptions(new PemTrustOptions().addCertPath(cacert));
+    /**
+     * Creates a websocket client with the same proxy and tls settings as the http client. No idle timeout is set,
+     * since websockets may stay silent for long periods.
+     */
+    public static WebSocketClient createWebSocketClient(Vertx vertx, VaultRuntimeConfig vaultRuntimeConfig,
+            boolean globalTrustAll) {
+
+        WebSocketClientOptions options = new WebSocketClientOptions()
+                .setConnectTimeout((int) vaultRuntimeConfig.connectTimeout().toMillis());
+
+        if (vaultRuntimeConfig.proxyHost().isPresent()) {
+            options.setProxyOptions(
+                    new ProxyOptions()
+                            .setHost(vaultRuntimeConfig.proxyHost().get())
+                            .setPort(vaultRuntimeConfig.proxyPort()));
+        }
+
+        if (vaultRuntimeConfig.nonProxyHosts().isPresent()) {
+            options.setNonProxyHosts(vaultRuntimeConfig.nonProxyHosts().get());
+        }
+
+        if (isTrustAll(vaultRuntimeConfig, globalTrustAll)) {
+            options.setTrustAll(true);
+            options.setVerifyHost(false);
+        } else {
+            String cacert = getCacert(vaultRuntimeConfig);
+            if (cacert != null) {
+                options.setTrustOptions(new PemTrustOptions().addCertPath(cacert));
+            }
+        }
+
+        return vertx.createWebSocketClient(options);
+    }
+
+    private static boolean isTrustAll(VaultRuntimeConfig vaultRuntimeConfig, boolean globalTrustAll) {
+        return vaultRuntimeConfig.tls().skipVerify().orElseGet(() -> globalTrustAll);
     }
 
-    private static void skipVerify(WebClientOptions options) {
-        log.debug("configure tls with skip-verify");
-        options.setTrustAll(true);
-        options.setVerifyHost(false);
+    private static String getCacert(VaultRuntimeConfig vaultRuntimeConfig) {
+        if (vaultRuntimeConfig.tls().caCert().isPresent()) {
+            return vaultRuntimeConfig.tls().caCert().get();
+        } else if (vaultRuntimeConfig.getAuthenticationType() == KUBERNETES
+                && vaultRuntimeConfig.tls().useKubernetesCaCert()) {
+            return KUBERNETES_CACERT;
+        }
+        return null;
     }
 }
@@ -1,7 +1,13 @@
 package io.quarkus.vault.runtime.client;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.inject.Produces;
 import jakarta.inject.Singleton;
 
@@ -24,6 +30,8 @@ import io.vertx.core.Vertx;
 @Singleton
 public class VaultClientProducer {
 
+    private final List<ScheduledExecutorService> tokenRefreshSchedulers = new CopyOnWriteArrayList<>();
+
     @Produces
     @Singleton
     @Private
@@ -59,8 +67,22 @@ public class VaultClientProducer {
                 .requestTimeout(config.readTimeout())
                 .logConfidentialityLevel(config.logConfidentialityLevel());
 
+        if (config.coalesceRequests()) {
+            vaultClientBuilder.coalesceRequests();
+        }
+
+        var responseCacheConfig = config.responseCache();
+        if (responseCacheConfig.mountPaths().isPresent()) {
+            vaultClientBuilder.cacheResponses(Set.copyOf(responseCacheConfig.mountPaths().get()),
+                    responseCacheConfig.maxTtl(), responseCacheConfig.maxSize());
+        }
+
         configureAuthentication(vaultClientBuilder, config);
 
+        if (config.tokenRefreshAheadRatio().isPresent()) {
+            vaultClientBuilder.tokenRefreshAhead(createTokenRefreshScheduler(), config.tokenRefreshAheadRatio().get());
+        }
+
         if (config.enterprise().namespace().isPresent()) {
             vaultClientBuilder.namespace(config.enterprise().namespace().orElseThrow());
         }
@@ -68,6 +90,22 @@ public class VaultClientProducer {
         return vaultClientBuilder.build();
     }
 
+    ScheduledExecutorService createTokenRefreshScheduler() {
+        var scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "vault-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        tokenRefreshSchedulers.add(scheduler);
+        return scheduler;
+    }
+
+    @PreDestroy
+    void shutdownTokenRefreshSchedulers() {
+        tokenRefreshSchedulers.forEach(ScheduledExecutorService::shutdownNow);
+        tokenRefreshSchedulers.clear();
+    }
+
     void configureAuthentication(VaultClient.Builder builder, VaultRuntimeConfig config) {
 
         var authConfig = config.authentication();
@@ -2,9 +2,12 @@ package io.quarkus.vault.runtime.config;
 
 import static io.quarkus.credentials.CredentialsProvider.PASSWORD_PROPERTY_NAME;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
 import io.smallrye.config.WithDefault;
 
 @ConfigGroup
@@ -12,6 +15,7 @@ public interface CredentialsProviderConfig {
     String DATABASE_DEFAULT_MOUNT = "database";
     String RABBITMQ_DEFAULT_MOUNT = "rabbitmq";
     String DEFAULT_REQUEST_PATH = "creds";
+    String DEFAULT_KV_CACHE_PERIOD = "0";
 
     /**
      * Database credentials role, as defined by
@@ -110,6 +114,21 @@ public interface CredentialsProviderConfig {
     @WithDefault("username")
     String kvUsernameKey();
 
+    /**
+     * Cache period of the credentials read from `kv-path`.
+     * <p>
+     * By default, the credentials are read from vault on every request. When a period is set, they are read from
+     * vault at most once per period, and concurrent requests share the same read. If vault cannot be reached once
+     * the period has expired, the last credentials read are returned.
+     * <p>
+     * Only used when `kv-path` is defined.
+     *
+     * @asciidoclet
+     */
+    @WithDefault(DEFAULT_KV_CACHE_PERIOD)
+    @WithConverter(DurationConverter.class)
+    Duration kvCachePeriod();
+
     @Override
     String toString();
 }
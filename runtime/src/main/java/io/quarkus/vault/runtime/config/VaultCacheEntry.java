@@ -39,4 +39,8 @@ public class VaultCacheEntry<V> {
         created = Instant.now();
     }
 
+    public void expire() {
+        created = Instant.EPOCH;
+    }
+
 }
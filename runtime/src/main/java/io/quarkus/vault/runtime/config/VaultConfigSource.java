@@ -1,34 +1,65 @@
 package io.quarkus.vault.runtime.config;
 
+import static io.quarkus.vault.runtime.StringHelper.trimSlashes;
 import static io.quarkus.vault.runtime.config.VaultCacheEntry.tryReturnLastKnownValue;
 import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toMap;
 
 import java.util.*;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.event.Event;
 
 import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
-import io.quarkus.vault.VaultKVSecretReactiveEngine;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.vault.client.VaultClientException;
 import io.quarkus.vault.client.VaultException;
+import io.quarkus.vault.config.VaultSecretConfigChangedEvent;
 import io.quarkus.vault.runtime.VaultKvManager;
 import io.quarkus.vault.runtime.client.Private;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.infrastructure.Infrastructure;
 
 public class VaultConfigSource implements ConfigSource {
 
     private static final Logger log = Logger.getLogger(VaultConfigSource.class);
 
+    private record SecretPath(String alias, String path, String prefix) {
+    }
+
+    private record VersionedProperties(int version, Map<String, String> properties) {
+    }
+
     private AtomicReference<VaultCacheEntry<Map<String, String>>> cache = new AtomicReference<>(null);
     private VaultRuntimeConfig vaultRuntimeConfig;
     private volatile boolean firstTime = true;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Map<SecretPath, VersionedProperties> versionedProperties = new ConcurrentHashMap<>();
+    private final Set<SecretPath> unversionedPaths = ConcurrentHashMap.newKeySet();
+    private final Map<SecretPath, Map<String, String>> pathProperties = new ConcurrentHashMap<>();
+    private final Supplier<VaultKvManager> vaultKvManager;
+    private final Consumer<List<VaultSecretConfigChangedEvent>> changedEvents;
 
     public VaultConfigSource(VaultRuntimeConfig vaultRuntimeConfig) {
+        this(vaultRuntimeConfig, VaultConfigSource::lookupVaultKvManager, VaultConfigSource::fireAsync);
+    }
+
+    VaultConfigSource(VaultRuntimeConfig vaultRuntimeConfig, Supplier<VaultKvManager> vaultKvManager,
+            Consumer<List<VaultSecretConfigChangedEvent>> changedEvents) {
         this.vaultRuntimeConfig = vaultRuntimeConfig;
+        this.vaultKvManager = vaultKvManager;
+        this.changedEvents = changedEvents;
     }
 
     @Override
@@ -68,12 +99,19 @@ public class VaultConfigSource implements ConfigSource {
             return cacheEntry.getValue();
         }
 
+        if (cacheEntry != null && vaultRuntimeConfig.secretConfigBackgroundRefresh()) {
+            // stale while revalidate
+            refreshInBackground(cacheEntry);
+            return cacheEntry.getValue();
+        }
+
         if (!Infrastructure.canCallerThreadBeBlocked()) {
             // running in a non blocking thread, best effort to return cached values if any
             return cacheEntry != null ? cacheEntry.getValue() : Collections.emptyMap();
         }
 
         Map<String, String> properties = new HashMap<>();
+        List<VaultSecretConfigChangedEvent> changes = List.of();
 
         try {
             if (firstTime) {
@@ -82,7 +120,7 @@ public class VaultConfigSource implements ConfigSource {
                 fetchSecretsFirstTime(properties);
             } else {
                 try {
-                    fetchSecrets(properties);
+                    changes = fetchSecrets(properties);
                     log.debug("refreshed " + properties.size() + " properties from vault");
                 } catch (RuntimeException e) {
                     return tryReturnLastKnownValue(e, cacheEntry);
@@ -92,9 +130,68 @@ public class VaultConfigSource implements ConfigSource {
             cache.set(new VaultCacheEntry<>(properties));
         }
 
+        fireChanged(changes);
         return properties;
     }
 
+    /**
+     * Fetches the secrets on a worker thread, with at most one refresh in flight. The new properties replace the
+     * cache entry at once, so readers see either the previous properties or the new ones.
+     */
+    private void refreshInBackground(VaultCacheEntry<Map<String, String>> cacheEntry) {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Infrastructure.getDefaultWorkerPool().execute(() -> {
+                try {
+                    Map<String, String> properties = new HashMap<>();
+                    List<VaultSecretConfigChangedEvent> changes = fetchSecrets(properties);
+                    cache.set(new VaultCacheEntry<>(properties));
+                    log.debug("refreshed " + properties.size() + " properties from vault in the background");
+                    fireChanged(changes);
+                } catch (RuntimeException e) {
+                    log.warn("unable to refresh secrets from vault, keeping last known values: " + e.getMessage());
+                    cacheEntry.reset(); // will retry after the cache period
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Expires the cached properties if they have been read from the secret at {@code path} of the kv engine mounted
+     * at {@code mountPath}, so that they are read again on the next lookup, or right away with background refresh.
+     */
+    public void invalidate(String mountPath, String path) {
+        boolean matched = false;
+        for (SecretPath secretPath : pathProperties.keySet()) {
+            if (mountPath.equals(trimSlashes(getMountPath(secretPath.alias())))
+                    && path.equals(trimSlashes(secretPath.path()))) {
+                versionedProperties.remove(secretPath);
+                matched = true;
+            }
+        }
+        VaultCacheEntry<Map<String, String>> cacheEntry = cache.get();
+        if (!matched || cacheEntry == null) {
+            return;
+        }
+        log.debug("secret " + mountPath + "/" + path + " has changed, expiring cached properties");
+        cacheEntry.expire();
+        if (vaultRuntimeConfig.secretConfigBackgroundRefresh()) {
+            refreshInBackground(cacheEntry);
+        }
+    }
+
+    private String getMountPath(String alias) {
+        return VaultKvManager.DEFAULT.equals(alias)
+                ? vaultRuntimeConfig.kvSecretEngineMountPath()
+                : vaultRuntimeConfig.kvSecretEngineAlias().get(alias).mountPath();
+    }
+
     private void fetchSecretsFirstTime(Map<String, String> properties) {
         VaultException last = null;
         for (int i = 0; i < vaultRuntimeConfig.mpConfigInitialAttempts(); i++) {
@@ -124,44 +221,128 @@ public class VaultConfigSource implements ConfigSource {
         }
     }
 
-    private void fetchSecrets(Map<String, String> properties) {
+    /**
+     * Fetches the properties of all paths, and returns the changes since the previous fetch, to be fired once the
+     * properties are visible.
+     */
+    private List<VaultSecretConfigChangedEvent> fetchSecrets(Map<String, String> properties) {
+
+        List<SecretPath> paths = new ArrayList<>();
 
         // default kv paths
         vaultRuntimeConfig.secretConfigKvPath()
-                .ifPresent(strings -> fetchSecrets(VaultKvManager.DEFAULT, strings, null, properties));
+                .ifPresent(strings -> addPaths(VaultKvManager.DEFAULT, strings, null, paths));
         // prefixed kv paths
         vaultRuntimeConfig.secretConfigKvPathPrefix()
-                .forEach((key, value) -> fetchSecrets(VaultKvManager.DEFAULT, value.paths(), key, properties));
+                .forEach((key, value) -> addPaths(VaultKvManager.DEFAULT, value.paths(), key, paths));
 
         for (var entry : new TreeMap<>(vaultRuntimeConfig.kvSecretEngineAlias()).entrySet()) {
             String alias = entry.getKey();
             // default kv paths
-            entry.getValue().secretConfigKvPath().ifPresent(strings -> fetchSecrets(alias, strings, null, properties));
+            entry.getValue().secretConfigKvPath().ifPresent(strings -> addPaths(alias, strings, null, paths));
             // prefixed kv paths
             entry.getValue().secretConfigKvPathPrefix()
-                    .forEach((key, value) -> fetchSecrets(alias, value.paths(), key, properties));
+                    .forEach((key, value) -> addPaths(alias, value.paths(), key, paths));
+        }
+
+        // paths are read concurrently, and merged in declaration order so that later paths take precedence
+        List<Map.Entry<Integer, Map<String, String>>> secrets = Multi.createFrom().range(0, paths.size())
+                .onItem().transformToUni(i -> fetchSecrets(paths.get(i)).map(secret -> Map.entry(i, secret)))
+                .merge(Math.max(1, vaultRuntimeConfig.secretConfigConcurrency()))
+                .collect().asList()
+                .await().indefinitely();
+        List<VaultSecretConfigChangedEvent> changes = new ArrayList<>();
+        for (var secret : secrets.stream().sorted(Map.Entry.comparingByKey()).toList()) {
+            SecretPath secretPath = paths.get(secret.getKey());
+            properties.putAll(secret.getValue());
+            Map<String, String> previous = pathProperties.put(secretPath, secret.getValue());
+            if (previous != null) {
+                Set<String> changedKeys = changedKeys(previous, secret.getValue());
+                if (!changedKeys.isEmpty()) {
+                    changes.add(new VaultSecretConfigChangedEvent(secretPath.alias(), secretPath.path(), changedKeys));
+                }
+            }
         }
+        return changes;
+    }
+
+    private static Set<String> changedKeys(Map<String, String> previous, Map<String, String> current) {
+        Set<String> changedKeys = new TreeSet<>();
+        previous.forEach((key, value) -> {
+            if (!current.containsKey(key) || !Objects.equals(value, current.get(key))) {
+                changedKeys.add(key);
+            }
+        });
+        current.keySet().stream().filter(key -> !previous.containsKey(key)).forEach(changedKeys::add);
+        return changedKeys;
     }
 
-    private void fetchSecrets(String alias, List<String> paths, String prefix, Map<String, String> properties) {
-        paths.forEach(path -> properties.putAll(fetchSecrets(alias, path, prefix)));
+    private void fireChanged(List<VaultSecretConfigChangedEvent> changes) {
+        if (!changes.isEmpty()) {
+            changedEvents.accept(changes);
+        }
     }
 
-    private Map<String, String> fetchSecrets(String alias, String path, String prefix) {
+    private static void fireAsync(List<VaultSecretConfigChangedEvent> changes) {
+        ArcContainer container = Arc.container();
+        if (container == null || !container.isRunning()) {
+            return;
+        }
+        Event<VaultSecretConfigChangedEvent> event = container.beanManager().getEvent()
+                .select(VaultSecretConfigChangedEvent.class);
+        for (VaultSecretConfigChangedEvent change : changes) {
+            log.debug("properties " + change.getChangedKeys() + " of " + change.getPath() + " have changed");
+            event.fireAsync(change);
+        }
+    }
 
-        Map<String, Object> secretJson = getVaultKVSecretEngine().readSecretJson(alias, path).await().indefinitely();
+    private void addPaths(String alias, List<String> paths, String prefix, List<SecretPath> secretPaths) {
+        paths.forEach(path -> secretPaths.add(new SecretPath(alias, path, prefix)));
+    }
 
-        // ignore list and map, honor null, get as string scalar types
-        Map<String, String> secret = secretJson.entrySet().stream()
-                .filter(entry -> isScalar(entry.getKey(), entry.getValue()))
-                // we cannot use toMap because it does not allow null value because it uses Map.merge
-                .collect(HashMap::new, (m, v) -> m.put(v.getKey(), toString(v.getValue())), HashMap::putAll);
+    private Uni<Map<String, String>> fetchSecrets(SecretPath secretPath) {
+        VersionedProperties known = versionedProperties.get(secretPath);
+        if (known == null || !vaultRuntimeConfig.secretConfigVersionCheck()) {
+            return fetchVersionedSecrets(secretPath);
+        }
+        // only read the secret data again if its version has changed
+        return vaultKvManager.get().readCurrentVersion(secretPath.alias(), secretPath.path())
+                .onItem().transformToUni(version -> {
+                    if (version != null && version == known.version()) {
+                        return Uni.createFrom().item(known.properties());
+                    }
+                    return fetchVersionedSecrets(secretPath);
+                })
+                .onFailure(VaultClientException.class).recoverWithUni(e -> {
+                    if (((VaultClientException) e).getStatus() != 403) {
+                        return Uni.createFrom().failure(e);
+                    }
+                    log.debug("unable to read the metadata of " + secretPath.path()
+                            + ", the secret will be read on every refresh");
+                    unversionedPaths.add(secretPath);
+                    versionedProperties.remove(secretPath);
+                    return fetchVersionedSecrets(secretPath);
+                });
+    }
 
-        return prefixMap(secret, prefix);
+    private Uni<Map<String, String>> fetchVersionedSecrets(SecretPath secretPath) {
+        return vaultKvManager.get().readVersionedSecretJson(secretPath.alias(), secretPath.path())
+                .map(secret -> {
+                    // ignore list and map, honor null, get as string scalar types
+                    Map<String, String> properties = secret.data().entrySet().stream()
+                            .filter(entry -> isScalar(entry.getKey(), entry.getValue()))
+                            // we cannot use toMap because it does not allow null value because it uses Map.merge
+                            .collect(HashMap::new, (m, v) -> m.put(v.getKey(), toString(v.getValue())), HashMap::putAll);
+                    properties = prefixMap(properties, secretPath.prefix());
+                    if (secret.version() != null && !unversionedPaths.contains(secretPath)) {
+                        versionedProperties.put(secretPath, new VersionedProperties(secret.version(), properties));
+                    }
+                    return properties;
+                });
     }
 
-    private VaultKVSecretReactiveEngine getVaultKVSecretEngine() {
-        return Arc.container().instance(VaultKVSecretReactiveEngine.class, Private.Literal.INSTANCE).get();
+    private static VaultKvManager lookupVaultKvManager() {
+        return Arc.container().instance(VaultKvManager.class, Private.Literal.INSTANCE).get();
     }
 
     private Map<String, String> prefixMap(Map<String, String> map, String prefix) {
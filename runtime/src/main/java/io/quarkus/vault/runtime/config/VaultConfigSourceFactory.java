@@ -15,11 +15,15 @@ public class VaultConfigSourceFactory implements ConfigurableConfigSourceFactory
     @Override
     public Iterable<ConfigSource> getConfigSources(final ConfigSourceContext context, final VaultRuntimeConfig config) {
         if (config.url().isPresent()) {
+            VaultConfigSource configSource = new VaultConfigSource(config);
             ArcContainer container = Arc.container();
             if (container != null) {
-                container.instance(VaultConfigHolder.class).get().setVaultRuntimeConfig(config);
+                // replaces the source of a previous config, so that secret change events reach the current one
+                container.instance(VaultConfigHolder.class).get()
+                        .setVaultRuntimeConfig(config)
+                        .setVaultConfigSource(configSource);
             }
-            return List.of(new VaultConfigSource(config));
+            return List.of(configSource);
         } else {
             return Collections.emptyList();
         }
@@ -0,0 +1,41 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultEventsConfig {
+
+    /**
+     * Subscribe to the Vault event notifications of kv secret engines, and invalidate cached secrets as soon as they
+     * change.
+     * <p>
+     * When a secret changes, the Vault config source is refreshed, and the cached responses of its mount and the
+     * cached credentials read from it are invalidated. Time based caching stays in place in case events are missed,
+     * so cache periods can be raised.
+     * <p>
+     * This requires Vault 1.16 or later, and the `read` capability on `sys/events/subscribe/*` along with the
+     * `list` and `subscribe` capabilities on the secret paths.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Type of the events to subscribe to. Glob patterns are supported.
+     */
+    @WithDefault("kv*")
+    String eventType();
+
+    /**
+     * Delay before subscribing again after the event stream has been closed or has failed.
+     */
+    @WithDefault("5S")
+    @WithConverter(DurationConverter.class)
+    Duration reconnectDelay();
+}
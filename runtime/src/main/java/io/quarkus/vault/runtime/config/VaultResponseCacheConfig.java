@@ -0,0 +1,38 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultResponseCacheConfig {
+
+    /**
+     * Mount paths whose read responses are cached in memory, such as `secret`.
+     * <p>
+     * Responses are cached for the lease duration returned by Vault, bounded by `max-ttl`. A write or a delete
+     * issued by the application to a cached mount invalidates the cached responses of that mount.
+     * Response caching is disabled if not set.
+     *
+     * @asciidoclet
+     */
+    Optional<List<String>> mountPaths();
+
+    /**
+     * Maximum time a response is cached.
+     */
+    @WithDefault("1M")
+    @WithConverter(DurationConverter.class)
+    Duration maxTtl();
+
+    /**
+     * Maximum number of cached responses.
+     */
+    @WithDefault("1000")
+    long maxSize();
+}
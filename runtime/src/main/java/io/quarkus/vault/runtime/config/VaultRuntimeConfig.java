@@ -39,6 +39,7 @@ public interface VaultRuntimeConfig {
     String KV_SECRET_ENGINE_VERSION_V2 = "2";
     String DEFAULT_RENEW_GRACE_PERIOD = "1H";
     String DEFAULT_SECRET_CONFIG_CACHE_PERIOD = "10M";
+    String DEFAULT_DYNAMIC_CREDENTIALS_VALIDATION_PERIOD = "1M";
     String KUBERNETES_CACERT = "/var/run/secrets/kubernetes.io/serviceaccount/ca.crt";
     String DEFAULT_CONNECT_TIMEOUT = "5S";
     String DEFAULT_READ_TIMEOUT = "5S";
@@ -110,6 +111,35 @@ public interface VaultRuntimeConfig {
     @WithConverter(DurationConverter.class)
     Duration renewGracePeriod();
 
+    /**
+     * Token refresh-ahead ratio.
+     * <p>
+     * When set, the Vault token obtained through authentication is renewed (or recreated through a new login if it
+     * cannot be renewed) in the background, instead of on the first request made within the `renew-grace-period`.
+     * The refresh is scheduled once this fraction of the token lease duration has elapsed, and no later than
+     * `renew-grace-period` before the token expires, with a small random jitter.
+     * <p>
+     * The value must be greater than 0 and less than 1, e.g. `0.75`. Background refresh is disabled if not set.
+     *
+     * @asciidoclet
+     */
+    Optional<Double> tokenRefreshAheadRatio();
+
+    /**
+     * Dynamic credentials lease validation period.
+     * <p>
+     * Cached dynamic credentials are served from memory, based on the expiration tracked locally for their lease.
+     * Their leases are checked with Vault in the background at this period, and credentials whose lease has been
+     * revoked are evicted, so that new credentials are created on the next request.
+     * <p>
+     * A period of `0` disables the background validation.
+     *
+     * @asciidoclet
+     */
+    @WithDefault(DEFAULT_DYNAMIC_CREDENTIALS_VALIDATION_PERIOD)
+    @WithConverter(DurationConverter.class)
+    Duration dynamicCredentialsValidationPeriod();
+
     /**
      * Vault config source cache period.
      * <p>
@@ -123,6 +153,33 @@ public interface VaultRuntimeConfig {
     @WithConverter(DurationConverter.class)
     Duration secretConfigCachePeriod();
 
+    /**
+     * Refresh the Vault config source cache in the background.
+     * <p>
+     * Once the `secret-config-cache-period` has elapsed, the next read of a property triggers a single background
+     * refresh, and returns the properties fetched previously until the new ones replace them. If the refresh
+     * fails, the previous properties are kept for another cache period.
+     * <p>
+     * When disabled, the first read on a thread that can block after the cache period fetches the properties
+     * from vault, and reads on non blocking threads return the previous properties.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean secretConfigBackgroundRefresh();
+
+    /**
+     * Check the version of kv v2 secrets before reading them again when refreshing the Vault config source cache.
+     * <p>
+     * On refresh, the metadata of each path is read first, and the secret data is only read again for paths whose
+     * current version has changed. This requires the `read` capability on the `metadata` path of the secrets.
+     * If the metadata cannot be read, the secret data is read on every refresh.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean secretConfigVersionCheck();
+
     // @formatter:off
     /**
      * List of comma separated vault paths in kv store,
@@ -162,6 +219,17 @@ public interface VaultRuntimeConfig {
     @WithDefault("1")
     int mpConfigInitialAttempts();
 
+    /**
+     * Maximum number of kv paths read concurrently when fetching MP Config properties.
+     * <p>
+     * Properties of all paths are merged in the same order whatever the number of concurrent reads: when a property
+     * is defined in several paths, the value from the path listed last wins.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("8")
+    int secretConfigConcurrency();
+
     /**
      * Used to hide confidential infos, for logging in particular.
      * Possible values are:
@@ -242,6 +310,30 @@ public interface VaultRuntimeConfig {
     @WithConverter(DurationConverter.class)
     Duration readTimeout();
 
+    /**
+     * Merge identical concurrent read requests.
+     * <p>
+     * When enabled, concurrent `GET` and `LIST` requests for the same path, namespace and token share a single
+     * exchange with Vault and receive the same response. This reduces the load on Vault when many threads read
+     * the same secrets at once.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean coalesceRequests();
+
+    /**
+     * Response cache
+     */
+    @ConfigDocSection
+    VaultResponseCacheConfig responseCache();
+
+    /**
+     * Event notifications
+     */
+    @ConfigDocSection
+    VaultEventsConfig events();
+
     /**
      * List of remote hosts that are not proxied when the client is configured to use a proxy. This
      * list serves the same purpose as the JVM {@code nonProxyHosts} configuration.
@@ -342,6 +434,7 @@ public interface VaultRuntimeConfig {
                 ", clientTokenWrappingToken="
                 + logConfidentialityLevel().maskWithTolerance(authentication().clientTokenWrappingToken().orElse(""), LOW) +
                 ", renewGracePeriod=" + renewGracePeriod() +
+                ", tokenRefreshAheadRatio=" + tokenRefreshAheadRatio() +
                 ", cachePeriod=" + secretConfigCachePeriod() +
                 ", logConfidentialityLevel=" + logConfidentialityLevel() +
                 ", kvSecretEngineVersion=" + kvSecretEngineVersion() +
@@ -351,6 +444,7 @@ public interface VaultRuntimeConfig {
                 ", tlsCaCert=" + tls().caCert() +
                 ", connectTimeout=" + connectTimeout() +
                 ", readTimeout=" + readTimeout() +
+                ", coalesceRequests=" + coalesceRequests() +
                 '}';
     }
 
@@ -0,0 +1,37 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultTransitBatchingConfig {
+
+    /**
+     * Coalesce concurrent single item `encrypt` and `decrypt` calls into batch requests.
+     * <p>
+     * Calls for the same key, with or without a context, are collected for up to `window` or until `max-size`
+     * calls are pending, then sent to Vault as a single `batch_input` request. Each caller receives the result of
+     * its own item. This raises throughput at the cost of up to `window` of added latency per call.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Maximum time a call waits for other calls to be batched with.
+     */
+    @WithDefault("2ms")
+    @WithConverter(DurationConverter.class)
+    Duration window();
+
+    /**
+     * Maximum number of calls sent in a single batch request.
+     */
+    @WithDefault("100")
+    int maxSize();
+}
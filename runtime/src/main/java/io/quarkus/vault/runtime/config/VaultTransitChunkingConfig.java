@@ -0,0 +1,64 @@
+package io.quarkus.vault.runtime.config;
+
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultTransitChunkingConfig {
+
+    /**
+     * Maximum number of items sent to Vault in a single `encrypt` batch request.
+     * <p>
+     * Larger lists are split into chunks of at most this size, sent with up to `concurrency` requests in flight.
+     * Results are reassembled in request order. When a chunk fails as a whole, each of its items is reported in
+     * error and the call fails with a `VaultEncryptionBatchException`. If not set, lists are sent as a single
+     * request.
+     *
+     * @asciidoclet
+     */
+    OptionalInt encryptMaxSize();
+
+    /**
+     * Maximum number of items sent to Vault in a single `decrypt` batch request.
+     * <p>
+     * See `encrypt-max-size`.
+     *
+     * @asciidoclet
+     */
+    OptionalInt decryptMaxSize();
+
+    /**
+     * Maximum number of items sent to Vault in a single `rewrap` batch request.
+     * <p>
+     * See `encrypt-max-size`.
+     *
+     * @asciidoclet
+     */
+    OptionalInt rewrapMaxSize();
+
+    /**
+     * Maximum number of items sent to Vault in a single `sign` batch request.
+     * <p>
+     * See `encrypt-max-size`.
+     *
+     * @asciidoclet
+     */
+    OptionalInt signMaxSize();
+
+    /**
+     * Maximum number of items sent to Vault in a single `verify` batch request.
+     * <p>
+     * See `encrypt-max-size`.
+     *
+     * @asciidoclet
+     */
+    OptionalInt verifyMaxSize();
+
+    /**
+     * Maximum number of chunks of a single call in flight at the same time.
+     */
+    @WithDefault("4")
+    int concurrency();
+}
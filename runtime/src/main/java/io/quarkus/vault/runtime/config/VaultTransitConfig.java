@@ -1,8 +1,12 @@
 package io.quarkus.vault.runtime.config;
 
+import java.time.Duration;
 import java.util.Map;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
 
 @ConfigGroup
 public interface VaultTransitConfig {
@@ -12,4 +16,57 @@ public interface VaultTransitConfig {
      */
     Map<String, TransitKeyConfig> key();
 
+    /**
+     * Verify signatures of asymmetric keys (ed25519, ecdsa and rsa) locally, with public keys read from Vault and
+     * cached per key version.
+     * <p>
+     * Public keys are refreshed when a signature made with a newer key version is verified, and after
+     * `key-metadata-cache-period`. Verifications that cannot be performed locally exactly as Vault would (e.g. derived
+     * keys with a context, or versions below the minimum decryption version) are sent to Vault.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean localVerification();
+
+    /**
+     * Skip rewrapping ciphertexts that are already encrypted with the target version of their key.
+     * <p>
+     * The version of a ciphertext is parsed from its `vault:v<version>:` prefix and compared with the requested key
+     * version, or with the latest version of the key read from Vault and cached for `key-metadata-cache-period`.
+     * Skipped ciphertexts are returned unchanged. Reading keys requires the `read` capability on the key; when it
+     * cannot be read, every ciphertext is sent to Vault.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("false")
+    boolean rewrapSkipCurrent();
+
+    /**
+     * Period during which transit key metadata is cached.
+     * <p>
+     * Keys rotated, updated or deleted through this application are refreshed immediately. Changes made elsewhere
+     * are seen after at most this period.
+     *
+     * @asciidoclet
+     */
+    @WithDefault("1M")
+    @WithConverter(DurationConverter.class)
+    Duration keyMetadataCachePeriod();
+
+    /**
+     * Batching of single item encryption and decryption calls
+     */
+    VaultTransitBatchingConfig batching();
+
+    /**
+     * Splitting of large batch calls into several requests
+     */
+    VaultTransitChunkingConfig chunking();
+
+    /**
+     * Envelope encryption
+     */
+    VaultTransitEnvelopeConfig envelope();
+
 }
@@ -0,0 +1,32 @@
+package io.quarkus.vault.runtime.config;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.configuration.DurationConverter;
+import io.smallrye.config.WithConverter;
+import io.smallrye.config.WithDefault;
+
+@ConfigGroup
+public interface VaultTransitEnvelopeConfig {
+
+    /**
+     * Maximum number of payloads encrypted with the same data key, before a new data key is generated.
+     */
+    @WithDefault("1000000")
+    long maxEncryptions();
+
+    /**
+     * Maximum time a data key is used to encrypt payloads, before a new data key is generated.
+     * Unwrapped data keys used for decryption are evicted once they have not been used for this long.
+     */
+    @WithDefault("1H")
+    @WithConverter(DurationConverter.class)
+    Duration maxAge();
+
+    /**
+     * Maximum number of unwrapped data keys kept in memory for decryption.
+     */
+    @WithDefault("1000")
+    long decryptionCacheSize();
+}
@@ -0,0 +1,95 @@
+package io.quarkus.vault.runtime.events;
+
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.vault.client.VaultClient;
+import io.quarkus.vault.client.common.VaultCachingExecutor;
+import io.quarkus.vault.runtime.VaultConfigHolder;
+import io.quarkus.vault.runtime.VaultCredentialsProvider;
+import io.quarkus.vault.runtime.client.MutinyVertxClientFactory;
+import io.quarkus.vault.runtime.client.Private;
+import io.quarkus.vault.runtime.config.VaultConfigSource;
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.quarkus.vault.runtime.events.VaultEventSubscriber.SecretEvent;
+import io.vertx.core.Vertx;
+
+/**
+ * Invalidates the cached secrets of kv engines when Vault notifies that they have changed.
+ * <p>
+ * The Vault config source, the cached responses of the Vault clients and the kv credentials of credentials
+ * providers are invalidated. Only started when event notifications are enabled; the Vault clients are resolved
+ * lazily so that they are not created when notifications are disabled or Vault is not configured.
+ */
+@Singleton
+public class VaultEventInvalidator {
+
+    private static final Logger log = Logger.getLogger(VaultEventInvalidator.class.getName());
+
+    @Inject
+    Vertx vertx;
+    @Inject
+    Instance<VaultClient> vaultClient;
+    @Inject
+    @Private
+    Instance<VaultClient> privateVaultClient;
+    @Inject
+    VaultConfigHolder vaultConfigHolder;
+    @Inject
+    VaultCredentialsProvider credentialsProvider;
+    @ConfigProperty(name = "quarkus.tls.trust-all", defaultValue = "false")
+    boolean globalTrustAll;
+
+    private VaultEventSubscriber subscriber;
+
+    void onStart(@Observes StartupEvent event) {
+        VaultRuntimeConfig config = vaultConfigHolder.getVaultRuntimeConfig();
+        if (config == null || config.url().isEmpty() || !config.events().enabled()) {
+            return;
+        }
+        String eventType = config.events().eventType();
+        VaultClient client = vaultClient.get();
+        subscriber = new VaultEventSubscriber(vertx,
+                MutinyVertxClientFactory.createWebSocketClient(vertx, config, globalTrustAll),
+                client.getBaseUrl(), client.getApiVersion(), client.getNamespace(), eventType,
+                config.events().reconnectDelay(), this::getToken, this::invalidate);
+        subscriber.start();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (subscriber != null) {
+            subscriber.close();
+        }
+    }
+
+    private CompletableFuture<String> getToken() {
+        return vaultClient.get().getClientToken("[SYS (events)] Subscribe").toCompletableFuture();
+    }
+
+    void invalidate(SecretEvent event) {
+        log.debug("invalidating cached secrets of " + event.mountPath() + "/" + event.path());
+        invalidateResponses(vaultClient.get(), event.mountPath());
+        invalidateResponses(privateVaultClient.get(), event.mountPath());
+        credentialsProvider.invalidateKvCredentials(event.mountPath(), event.path());
+        VaultConfigSource configSource = vaultConfigHolder.getVaultConfigSource();
+        if (configSource != null) {
+            configSource.invalidate(event.mountPath(), event.path());
+        }
+    }
+
+    private static void invalidateResponses(VaultClient client, String mountPath) {
+        if (client.getExecutor() instanceof VaultCachingExecutor cachingExecutor) {
+            cachingExecutor.invalidate(mountPath);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.quarkus.vault.runtime.events;
+
+import static io.quarkus.vault.runtime.StringHelper.trimSlashes;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.quarkus.vault.client.json.JsonMapping;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocket;
+import io.vertx.core.http.WebSocketClient;
+import io.vertx.core.http.WebSocketConnectOptions;
+
+/**
+ * Subscribes to the Vault event notification stream over a websocket, and reports the secrets changed.
+ * <p>
+ * The subscription is renewed after a delay whenever the stream is closed or fails, with a new token each time.
+ * Events may be missed while the stream is down, so consumers must not rely on them alone.
+ */
+public class VaultEventSubscriber {
+
+    private static final Logger log = Logger.getLogger(VaultEventSubscriber.class.getName());
+
+    private static final Set<String> KV_V2_PREFIXES = Set.of("data", "metadata", "delete", "undelete", "destroy");
+
+    /**
+     * A change of the secret at {@code path} in the secret engine mounted at {@code mountPath}.
+     */
+    public record SecretEvent(String eventType, String mountPath, String path) {
+    }
+
+    private final Vertx vertx;
+    private final WebSocketClient client;
+    private final URL baseUrl;
+    private final String apiVersion;
+    private final String namespace;
+    private final String eventType;
+    private final Duration reconnectDelay;
+    private final Supplier<CompletionStage<String>> tokenSupplier;
+    private final Consumer<SecretEvent> listener;
+    private volatile boolean closed;
+    private volatile WebSocket webSocket;
+
+    public VaultEventSubscriber(Vertx vertx, WebSocketClient client, URL baseUrl, String apiVersion, String namespace,
+            String eventType, Duration reconnectDelay, Supplier<CompletionStage<String>> tokenSupplier,
+            Consumer<SecretEvent> listener) {
+        this.vertx = vertx;
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.apiVersion = apiVersion != null ? apiVersion : "v1";
+        this.namespace = namespace;
+        this.eventType = eventType;
+        this.reconnectDelay = reconnectDelay;
+        this.tokenSupplier = tokenSupplier;
+        this.listener = listener;
+    }
+
+    public void start() {
+        subscribe();
+    }
+
+    public void close() {
+        closed = true;
+        WebSocket current = webSocket;
+        if (current != null) {
+            current.close();
+        }
+        client.close();
+    }
+
+    private void subscribe() {
+        if (closed) {
+            return;
+        }
+        tokenSupplier.get().whenComplete((token, failure) -> {
+            if (failure != null) {
+                log.warn("unable to get a token to subscribe to vault events: " + failure.getMessage());
+                resubscribe();
+                return;
+            }
+            client.connect(connectOptions(token)).onComplete(result -> {
+                if (result.failed()) {
+                    log.warn("unable to subscribe to vault events " + eventType + ": " + result.cause().getMessage());
+                    resubscribe();
+                    return;
+                }
+                WebSocket connected = result.result();
+                if (closed) {
+                    connected.close();
+                    return;
+                }
+                log.debug("subscribed to vault events " + eventType);
+                webSocket = connected;
+                connected.textMessageHandler(this::onMessage);
+                connected.exceptionHandler(e -> log.debug("vault events stream failed: " + e.getMessage()));
+                connected.closeHandler(v -> {
+                    webSocket = null;
+                    if (!closed) {
+                        log.debug("vault events stream closed");
+                        resubscribe();
+                    }
+                });
+            });
+        });
+    }
+
+    private void resubscribe() {
+        if (!closed) {
+            vertx.setTimer(Math.max(1, reconnectDelay.toMillis()), id -> subscribe());
+        }
+    }
+
+    private WebSocketConnectOptions connectOptions(String token) {
+        boolean ssl = "https".equals(baseUrl.getProtocol());
+        int port = baseUrl.getPort() != -1 ? baseUrl.getPort() : ssl ? 443 : 80;
+        String basePath = trimSlashes(baseUrl.getPath());
+        WebSocketConnectOptions options = new WebSocketConnectOptions()
+                .setHost(baseUrl.getHost())
+                .setPort(port)
+                .setSsl(ssl)
+                .setURI((basePath.isEmpty() ? "" : "/" + basePath) + "/" + apiVersion + "/sys/events/subscribe/"
+                        + eventType + "?json=true");
+        if (token != null) {
+            options.addHeader("X-Vault-Token", token);
+        }
+        if (namespace != null) {
+            options.addHeader("X-Vault-Namespace", namespace);
+        }
+        return options;
+    }
+
+    void onMessage(String message) {
+        SecretEvent event;
+        try {
+            event = parse(message);
+        } catch (Exception e) {
+            log.debug("ignoring unreadable vault event: " + e.getMessage());
+            return;
+        }
+        if (event == null) {
+            return;
+        }
+        log.debug("received vault event " + event.eventType() + " for " + event.mountPath() + "/" + event.path());
+        try {
+            listener.accept(event);
+        } catch (RuntimeException e) {
+            log.warn("unable to handle vault event " + event.eventType() + ": " + e.getMessage());
+        }
+    }
+
+    static SecretEvent parse(String message) throws Exception {
+        JsonNode data = JsonMapping.mapper.readTree(message).path("data");
+        String type = data.path("event_type").asText("");
+        String mountPath = trimSlashes(data.path("plugin_info").path("mount_path").asText(""));
+        String path = trimSlashes(data.path("event").path("metadata").path("path").asText(""));
+        if (mountPath.isEmpty() || path.isEmpty()) {
+            return null;
+        }
+        if (path.startsWith(mountPath + "/")) {
+            path = path.substring(mountPath.length() + 1);
+        }
+        if (type.startsWith("kv-v2/")) {
+            // kv v2 paths are prefixed by the endpoint, e.g. secret/data/foo
+            int slash = path.indexOf('/');
+            if (slash > 0 && KV_V2_PREFIXES.contains(path.substring(0, slash))) {
+                path = path.substring(slash + 1);
+            }
+        }
+        return new SecretEvent(type, mountPath, path);
+    }
+}
@@ -21,6 +21,30 @@ public class KvV2 extends VersionedKv<VaultSecretsKV2RequestFactory> {
         return Uni.createFrom().completionStage(kvv2.readSecret(path)).map(VaultSecretsKV2ReadSecretData::getData);
     }
 
+    @Override
+    public Uni<Integer> readCurrentVersion(String path) {
+        return Uni.createFrom().completionStage(kvv2.readSecretMetadata(path))
+                .map(metadata -> {
+                    Integer currentVersion = metadata.getCurrentVersion();
+                    var version = currentVersion != null && metadata.getVersions() != null
+                            ? metadata.getVersions().get(String.valueOf(currentVersion))
+                            : null;
+                    if (version != null
+                            && (version.getDeletionTime() != null || Boolean.TRUE.equals(version.isDestroyed()))) {
+                        // no current data, let the data read report it
+                        return null;
+                    }
+                    return currentVersion;
+                });
+    }
+
+    @Override
+    public Uni<VersionedSecret> readVersionedSecretJson(String path) {
+        return Uni.createFrom().completionStage(kvv2.readSecret(path))
+                .map(secret -> new VersionedSecret(secret.getMetadata() != null ? secret.getMetadata().getVersion() : null,
+                        secret.getData()));
+    }
+
     @Override
     public Uni<Void> writeSecret(String path, Map<String, String> secret) {
         return Uni.createFrom().completionStage(kvv2.updateSecret(path, null, asSecretMap(secret))).map(r -> null);
@@ -19,6 +19,17 @@ public abstract class VersionedKv<T extends VaultRequestFactory> {
 
     public abstract Uni<List<String>> listSecrets(String path);
 
+    /**
+     * Reads the current version of a secret, without its data. Unversioned engines return a null version.
+     */
+    public Uni<Integer> readCurrentVersion(String path) {
+        return Uni.createFrom().nullItem();
+    }
+
+    public Uni<VersionedSecret> readVersionedSecretJson(String path) {
+        return readSecretJson(path).map(data -> new VersionedSecret(null, data));
+    }
+
     public Uni<Map<String, String>> readSecret(String path) {
         return readSecretJson(path).map(this::convert);
     }
@@ -0,0 +1,9 @@
+package io.quarkus.vault.runtime.kv;
+
+import java.util.Map;
+
+/**
+ * Secret data with the version it was read at, or a null version for unversioned engines.
+ */
+public record VersionedSecret(Integer version, Map<String, Object> data) {
+}
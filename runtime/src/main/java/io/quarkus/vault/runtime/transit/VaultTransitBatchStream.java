@@ -0,0 +1,124 @@
+package io.quarkus.vault.runtime.transit;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import io.quarkus.vault.client.VaultException;
+import io.quarkus.vault.transit.BatchStreamOptions;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Processes a stream of transit items in batches, and emits one result per item in upstream order.
+ * <p>
+ * Items are grouped into batches by size and delay, and up to {@code concurrency} batch requests are in flight.
+ * Memory is bounded: at most {@code batchSize * concurrency} items are taken from upstream before their results
+ * are requested downstream. Item errors are emitted as results in error; a batch request failing as a whole fails
+ * the stream.
+ */
+public final class VaultTransitBatchStream {
+
+    /**
+     * Asynchronous counting semaphore, with at most one waiting acquirer since acquisitions are sequential.
+     */
+    private static final class Permits {
+
+        private int available;
+        private CompletableFuture<Void> waiter;
+
+        Permits(int available) {
+            this.available = available;
+        }
+
+        Uni<Void> acquire() {
+            return Uni.createFrom().completionStage(() -> {
+                synchronized (this) {
+                    if (available > 0) {
+                        available--;
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    waiter = new CompletableFuture<>();
+                    return waiter;
+                }
+            });
+        }
+
+        void release(int permits) {
+            CompletableFuture<Void> released = null;
+            synchronized (this) {
+                available += permits;
+                if (waiter != null && available > 0) {
+                    available--;
+                    released = waiter;
+                    waiter = null;
+                }
+            }
+            if (released != null) {
+                released.complete(null);
+            }
+        }
+    }
+
+    private record Started<V>(int size, CompletionStage<List<V>> results) {
+    }
+
+    private VaultTransitBatchStream() {
+    }
+
+    public static <R, V> Multi<V> process(Multi<R> requests, BatchStreamOptions options,
+            Function<List<R>, Uni<List<V>>> batchExecutor) {
+        if (options.getBatchSize() < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        if (options.getConcurrency() < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        if (options.getMaxDelay() == null || options.getMaxDelay().isNegative() || options.getMaxDelay().isZero()) {
+            throw new IllegalArgumentException("maxDelay must be positive");
+        }
+
+        return Multi.createFrom().deferred(() -> {
+            int maxItems = options.getBatchSize() * options.getConcurrency();
+            var itemPermits = new Permits(maxItems);
+            var batchPermits = new Permits(options.getConcurrency());
+
+            return requests
+                    // bounds the number of items taken from upstream and not yet emitted downstream
+                    .onItem().transformToUniAndConcatenate(request -> itemPermits.acquire().replaceWith(request))
+                    .group().intoLists().of(options.getBatchSize(), options.getMaxDelay())
+                    // never more than maxItems batches, since each batch holds at least one item permit
+                    .onOverflow().buffer(maxItems)
+                    .onItem().transformToUniAndConcatenate(batch -> batchPermits.acquire()
+                            .map(v -> new Started<>(batch.size(), execute(batchExecutor, batch))))
+                    // never more than concurrency started batches, since each holds a batch permit
+                    .onOverflow().buffer(options.getConcurrency())
+                    .onItem().transformToMultiAndConcatenate(started -> Uni.createFrom().completionStage(started.results())
+                            .onItem().transformToMulti(results -> Multi.createFrom().iterable(results))
+                            .onTermination().invoke(() -> {
+                                batchPermits.release(1);
+                                itemPermits.release(started.size());
+                            }));
+        });
+    }
+
+    private static <R, V> CompletionStage<List<V>> execute(Function<List<R>, Uni<List<V>>> batchExecutor,
+            List<R> batch) {
+        Uni<List<V>> execution;
+        try {
+            execution = batchExecutor.apply(batch);
+        } catch (Throwable t) {
+            execution = Uni.createFrom().failure(t);
+        }
+        return execution
+                .map(results -> {
+                    if (results.size() != batch.size()) {
+                        throw new VaultException(
+                                "unable to zip " + batch.size() + " requests with " + results.size() + " results");
+                    }
+                    return results;
+                })
+                .subscribeAsCompletionStage();
+    }
+}
@@ -0,0 +1,159 @@
+package io.quarkus.vault.runtime.transit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vault.client.VaultException;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Collects concurrent single item requests sharing the same batch key and executes them as one batch.
+ * <p>
+ * A batch is executed once {@code maxSize} requests are pending, or {@code window} after its first request was
+ * submitted, whichever comes first. The batch executor must return one result per request, in request order; each
+ * result is handed back to the caller that submitted the matching request. If the batch fails as a whole, every
+ * caller of the batch receives the failure.
+ *
+ * @param <K> the batch key, requests are only batched with requests of an equal key
+ * @param <R> the request type
+ * @param <V> the result type
+ */
+public class VaultTransitBatcher<K, R, V> {
+
+    private static final Logger log = Logger.getLogger(VaultTransitBatcher.class.getName());
+
+    private record Item<R, V>(R request, CompletableFuture<V> result) {
+    }
+
+    private final class Batch {
+
+        final K key;
+        final List<Item<R, V>> items = new ArrayList<>();
+        final AtomicBoolean executed = new AtomicBoolean();
+        volatile ScheduledFuture<?> timer;
+
+        Batch(K key) {
+            this.key = key;
+        }
+    }
+
+    private final Duration window;
+    private final int maxSize;
+    private final ScheduledExecutorService scheduler;
+    private final BiFunction<K, List<R>, Uni<List<V>>> batchExecutor;
+    private final Map<K, Batch> pending = new HashMap<>();
+
+    public VaultTransitBatcher(Duration window, int maxSize, ScheduledExecutorService scheduler,
+            BiFunction<K, List<R>, Uni<List<V>>> batchExecutor) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be at least 1");
+        }
+        this.window = window;
+        this.maxSize = maxSize;
+        this.scheduler = scheduler;
+        this.batchExecutor = batchExecutor;
+    }
+
+    /**
+     * Submits a request to be executed with the other requests of the same key; the request is only queued when
+     * the returned {@link Uni} is subscribed to.
+     *
+     * @param key the batch key
+     * @param request the request
+     * @return the result of the request
+     */
+    public Uni<V> submit(K key, R request) {
+        return Uni.createFrom().deferred(() -> {
+            var result = new CompletableFuture<V>();
+            add(key, new Item<>(request, result));
+            return Uni.createFrom().completionStage(result);
+        });
+    }
+
+    private void add(K key, Item<R, V> item) {
+        Batch opened = null;
+        Batch full = null;
+        synchronized (pending) {
+            var batch = pending.get(key);
+            if (batch == null) {
+                batch = new Batch(key);
+                pending.put(key, batch);
+                opened = batch;
+            }
+            batch.items.add(item);
+            if (batch.items.size() >= maxSize) {
+                pending.remove(key);
+                full = batch;
+            }
+        }
+
+        if (full != null) {
+            var timer = full.timer;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            execute(full);
+        } else if (opened != null) {
+            var batch = opened;
+            try {
+                batch.timer = scheduler.schedule(() -> expire(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                expire(batch);
+            }
+        }
+    }
+
+    private void expire(Batch batch) {
+        synchronized (pending) {
+            pending.remove(batch.key, batch);
+        }
+        execute(batch);
+    }
+
+    private void execute(Batch batch) {
+        if (!batch.executed.compareAndSet(false, true)) {
+            return;
+        }
+
+        var items = batch.items;
+        var requests = new ArrayList<R>(items.size());
+        for (var item : items) {
+            requests.add(item.request());
+        }
+
+        log.debugf("executing batch of %d transit requests", items.size());
+
+        Uni<List<V>> execution;
+        try {
+            execution = batchExecutor.apply(batch.key, requests);
+        } catch (Throwable t) {
+            execution = Uni.createFrom().failure(t);
+        }
+
+        execution.subscribe().with(
+                results -> {
+                    if (results.size() != items.size()) {
+                        var error = new VaultException(
+                                "unable to zip " + items.size() + " requests with " + results.size() + " results");
+                        items.forEach(item -> item.result().completeExceptionally(error));
+                        return;
+                    }
+                    for (int i = 0; i < items.size(); i++) {
+                        items.get(i).result().complete(results.get(i));
+                    }
+                },
+                failure -> items.forEach(item -> item.result().completeExceptionally(failure)));
+    }
+}
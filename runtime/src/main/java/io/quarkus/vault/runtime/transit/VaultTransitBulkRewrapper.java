@@ -0,0 +1,149 @@
+package io.quarkus.vault.runtime.transit;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vault.client.VaultException;
+import io.quarkus.vault.transit.BulkRewrappingOptions;
+import io.quarkus.vault.transit.BulkRewrappingProgress;
+import io.quarkus.vault.transit.RewrappingRequest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Rewraps a stream of ciphertexts in batches, with a bounded number of batch requests in flight and an optional
+ * target throughput.
+ * <p>
+ * Upstream items are only requested as downstream consumes progress items, so at most {@code concurrency} batches
+ * are held in memory. Item errors are reported in the progress of their batch; a batch request failing as a whole
+ * fails the stream, leaving the last emitted checkpoint as the offset to resume from.
+ */
+public class VaultTransitBulkRewrapper {
+
+    private static final Logger log = Logger.getLogger(VaultTransitBulkRewrapper.class.getName());
+
+    private record Rewrapped(long fromOffset, long toOffset, List<RewrappingRequest> requests,
+            List<EncryptionResult> results) {
+    }
+
+    /**
+     * Tracks completed offset ranges, and the offset below which all ranges are completed.
+     */
+    private static final class Checkpoints {
+
+        private final TreeMap<Long, Long> completed = new TreeMap<>();
+        private long checkpoint;
+
+        Checkpoints(long startOffset) {
+            this.checkpoint = startOffset;
+        }
+
+        long complete(long fromOffset, long toOffset) {
+            completed.put(fromOffset, toOffset);
+            Long next;
+            while ((next = completed.remove(checkpoint)) != null) {
+                checkpoint = next;
+            }
+            return checkpoint;
+        }
+    }
+
+    /**
+     * Spaces batches so that the throughput does not exceed a number of items per second.
+     */
+    private static final class Pacer {
+
+        private final double maxItemsPerSecond;
+        private long nextSlot = System.nanoTime();
+
+        Pacer(double maxItemsPerSecond) {
+            this.maxItemsPerSecond = maxItemsPerSecond;
+        }
+
+        synchronized long reserve(int items) {
+            long now = System.nanoTime();
+            long start = Math.max(now, nextSlot);
+            nextSlot = start + (long) (items * 1_000_000_000d / maxItemsPerSecond);
+            return start - now;
+        }
+    }
+
+    private final Function<List<RewrappingRequest>, Uni<List<EncryptionResult>>> rewrapBatch;
+
+    public VaultTransitBulkRewrapper(Function<List<RewrappingRequest>, Uni<List<EncryptionResult>>> rewrapBatch) {
+        this.rewrapBatch = rewrapBatch;
+    }
+
+    public Multi<BulkRewrappingProgress> rewrap(Multi<RewrappingRequest> requests, BulkRewrappingOptions options) {
+        if (options.getBatchSize() < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1");
+        }
+        if (options.getConcurrency() < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        Double maxItemsPerSecond = options.getMaxItemsPerSecond();
+        if (maxItemsPerSecond != null && maxItemsPerSecond <= 0) {
+            throw new IllegalArgumentException("maxItemsPerSecond must be positive");
+        }
+
+        return Multi.createFrom().deferred(() -> {
+            var checkpoints = new Checkpoints(options.getStartOffset());
+            var pacer = maxItemsPerSecond != null ? new Pacer(maxItemsPerSecond) : null;
+            long[] nextOffset = { options.getStartOffset() };
+
+            return requests.group().intoLists().of(options.getBatchSize())
+                    .onItem().transformToUni(batch -> {
+                        // batches are mapped in stream order, one at a time
+                        long fromOffset = nextOffset[0];
+                        long toOffset = fromOffset + batch.size();
+                        nextOffset[0] = toOffset;
+                        return pace(pacer, batch.size())
+                                .chain(() -> rewrapBatch.apply(batch))
+                                .map(results -> {
+                                    if (results.size() != batch.size()) {
+                                        throw new VaultException("unable to zip " + batch.size() + " requests with "
+                                                + results.size() + " results");
+                                    }
+                                    return new Rewrapped(fromOffset, toOffset, batch, results);
+                                });
+                    })
+                    .merge(options.getConcurrency())
+                    // checkpoints are computed in emission order, so that a checkpoint only covers batches
+                    // already handed downstream
+                    .onItem().transform(rewrapped -> {
+                        long checkpoint = checkpoints.complete(rewrapped.fromOffset(), rewrapped.toOffset());
+                        log.debugf("rewrapped ciphertexts %d to %d, checkpoint at %d", rewrapped.fromOffset(),
+                                rewrapped.toOffset(), checkpoint);
+                        return progress(rewrapped, checkpoint);
+                    });
+        });
+    }
+
+    private static Uni<Void> pace(Pacer pacer, int items) {
+        long delay = pacer != null ? pacer.reserve(items) : 0;
+        if (delay <= 0) {
+            return Uni.createFrom().voidItem();
+        }
+        return Uni.createFrom().voidItem().onItem().delayIt().by(Duration.ofNanos(delay));
+    }
+
+    private static BulkRewrappingProgress progress(Rewrapped batch, long checkpoint) {
+        Map<RewrappingRequest, String> rewrapped = new LinkedHashMap<>();
+        Map<RewrappingRequest, String> errors = new LinkedHashMap<>();
+        for (int i = 0; i < batch.requests().size(); i++) {
+            EncryptionResult result = batch.results().get(i);
+            if (result.isInError()) {
+                errors.put(batch.requests().get(i), result.getError());
+            } else {
+                rewrapped.put(batch.requests().get(i), result.getValue());
+            }
+        }
+        return new BulkRewrappingProgress(batch.fromOffset(), batch.toOffset(), checkpoint, rewrapped, errors);
+    }
+}
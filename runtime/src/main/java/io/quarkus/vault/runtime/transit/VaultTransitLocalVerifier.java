@@ -0,0 +1,303 @@
+package io.quarkus.vault.runtime.transit;
+
+import static io.quarkus.vault.transit.VaultTransitSecretEngineConstants.INVALID_SIGNATURE;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.MessageDigest;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransit;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitKeyInfo;
+import io.quarkus.vault.transit.VerificationRequest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Verifies transit signatures locally, with the public keys of asymmetric transit keys.
+ * <p>
+ * Public keys are read with {@code readKey} and cached per version for a cache period. A signature made with a
+ * version newer than the latest cached version triggers a refresh of the key. Signatures made with a version older
+ * than the minimum decryption version of the key are left to Vault, which rejects them.
+ * <p>
+ * Only combinations that can be verified exactly as Vault does are handled locally: ed25519, ecdsa and rsa keys,
+ * without a context, with a SHA-2 or SHA-3 hash algorithm. Anything else (derived keys, prehashed RSA input, unknown
+ * key versions, ...) is reported as not verifiable so that the caller can fall back to Vault.
+ */
+public class VaultTransitLocalVerifier {
+
+    private static final Logger log = Logger.getLogger(VaultTransitLocalVerifier.class.getName());
+
+    private static final Pattern SIGNATURE = Pattern.compile("vault:v(\\d+):(.+)");
+
+    // SubjectPublicKeyInfo header of a raw 32 bytes ed25519 public key
+    private static final byte[] ED25519_SPKI_PREFIX = { 0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03,
+            0x21, 0x00 };
+
+    /**
+     * Effective signature options, Vault defaults are used for {@code null} values.
+     */
+    public record Options(String hashAlgorithm, String signatureAlgorithm, Boolean prehashed,
+            String marshalingAlgorithm) {
+    }
+
+    private record KeyVersion(String type, PublicKey publicKey) {
+    }
+
+    private record KeyVersions(int latestVersion, int minDecryptionVersion, Map<Integer, KeyVersion> versions,
+            Instant expiresAt) {
+    }
+
+    private final VaultSecretsTransit transit;
+    private final Duration cachePeriod;
+    private final ConcurrentHashMap<String, CompletableFuture<KeyVersions>> keys = new ConcurrentHashMap<>();
+
+    public VaultTransitLocalVerifier(VaultSecretsTransit transit, Duration cachePeriod) {
+        this.transit = transit;
+        this.cachePeriod = cachePeriod;
+    }
+
+    /**
+     * Verifies signatures locally.
+     *
+     * @param keyName the transit key name
+     * @param requests the verification requests
+     * @param options the signature options
+     * @return the verification results, in request order, or empty if any request cannot be verified locally
+     */
+    public Uni<Optional<List<VerificationResult>>> verify(String keyName, List<VerificationRequest> requests,
+            Options options) {
+        int maxVersion = 0;
+        for (var request : requests) {
+            if (request.getContext() != null) {
+                return Uni.createFrom().item(Optional.empty());
+            }
+            var matcher = SIGNATURE.matcher(request.getSignature() != null ? request.getSignature() : "");
+            if (!matcher.matches()) {
+                return Uni.createFrom().item(Optional.empty());
+            }
+            maxVersion = Math.max(maxVersion, Integer.parseInt(matcher.group(1)));
+        }
+        int requiredVersion = maxVersion;
+        return Uni.createFrom().completionStage(() -> keyVersions(keyName, requiredVersion))
+                .map(keyVersions -> verify(keyVersions, requests, options))
+                .onFailure().recoverWithItem(failure -> {
+                    log.debugf("unable to read public keys of transit key %s: %s", keyName, failure.getMessage());
+                    return Optional.empty();
+                });
+    }
+
+    /**
+     * Forgets the cached public keys of a key.
+     *
+     * @param keyName the transit key name
+     */
+    public void invalidate(String keyName) {
+        keys.remove(keyName);
+    }
+
+    private CompletableFuture<KeyVersions> keyVersions(String keyName, int requiredVersion) {
+        var current = keys.get(keyName);
+        if (current != null && !current.isCompletedExceptionally()
+                && (!current.isDone() || isFresh(current.join(), requiredVersion))) {
+            return current;
+        }
+        var fetch = new CompletableFuture<KeyVersions>();
+        var installed = current != null ? keys.replace(keyName, current, fetch) : keys.putIfAbsent(keyName, fetch) == null;
+        if (!installed) {
+            // refreshed concurrently
+            var refreshed = keys.get(keyName);
+            return refreshed != null ? refreshed : keyVersions(keyName, requiredVersion);
+        }
+        log.debugf("reading public keys of transit key %s", keyName);
+        transit.readKey(keyName)
+                .thenApply(this::keyVersions)
+                .whenComplete((keyVersions, failure) -> {
+                    if (failure != null) {
+                        keys.remove(keyName, fetch);
+                        fetch.completeExceptionally(failure);
+                    } else {
+                        fetch.complete(keyVersions);
+                    }
+                });
+        return fetch;
+    }
+
+    private static boolean isFresh(KeyVersions keyVersions, int requiredVersion) {
+        return keyVersions.latestVersion() >= requiredVersion && Instant.now().isBefore(keyVersions.expiresAt());
+    }
+
+    private KeyVersions keyVersions(VaultSecretsTransitKeyInfo info) {
+        var type = info.getType() != null ? info.getType().getValue() : null;
+        var versions = new HashMap<Integer, KeyVersion>();
+        if (type != null && info.getKeys() != null) {
+            info.getKeys().forEach((version, keyVersion) -> {
+                if (keyVersion.getPublicKey() == null) {
+                    return;
+                }
+                try {
+                    var publicKey = publicKey(type, keyVersion.getPublicKey());
+                    versions.put(Integer.parseInt(version), new KeyVersion(type, publicKey));
+                } catch (GeneralSecurityException | IllegalArgumentException e) {
+                    log.debugf("unsupported public key for version %s of transit key %s: %s", version, info.getName(),
+                            e.getMessage());
+                }
+            });
+        }
+        return new KeyVersions(info.getLatestVersion() != null ? info.getLatestVersion() : 0,
+                info.getMinDecryptionVersion() != null ? info.getMinDecryptionVersion() : 0, versions,
+                Instant.now().plus(cachePeriod));
+    }
+
+    private static PublicKey publicKey(String type, String encoded) throws GeneralSecurityException {
+        if (type.equals("ed25519")) {
+            var raw = Base64.getDecoder().decode(encoded);
+            var spki = new byte[ED25519_SPKI_PREFIX.length + raw.length];
+            System.arraycopy(ED25519_SPKI_PREFIX, 0, spki, 0, ED25519_SPKI_PREFIX.length);
+            System.arraycopy(raw, 0, spki, ED25519_SPKI_PREFIX.length, raw.length);
+            return KeyFactory.getInstance("Ed25519").generatePublic(new X509EncodedKeySpec(spki));
+        }
+        var pem = encoded.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        var spec = new X509EncodedKeySpec(Base64.getDecoder().decode(pem));
+        if (type.startsWith("ecdsa-")) {
+            return KeyFactory.getInstance("EC").generatePublic(spec);
+        } else if (type.startsWith("rsa-")) {
+            return KeyFactory.getInstance("RSA").generatePublic(spec);
+        }
+        throw new GeneralSecurityException("unsupported key type " + type);
+    }
+
+    private Optional<List<VerificationResult>> verify(KeyVersions keyVersions, List<VerificationRequest> requests,
+            Options options) {
+        var results = new ArrayList<VerificationResult>(requests.size());
+        for (var request : requests) {
+            var matcher = SIGNATURE.matcher(request.getSignature());
+            matcher.matches();
+            var version = Integer.parseInt(matcher.group(1));
+            var keyVersion = keyVersions.versions().get(version);
+            if (keyVersion == null || version < keyVersions.minDecryptionVersion()) {
+                // Vault rejects versions disallowed by policy
+                return Optional.empty();
+            }
+            byte[] signatureBytes;
+            try {
+                signatureBytes = signatureDecoder(options).decode(matcher.group(2));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+            Signature signature;
+            try {
+                signature = signature(keyVersion, options);
+            } catch (GeneralSecurityException e) {
+                log.debugf("unable to verify %s signatures locally: %s", keyVersion.type(), e.getMessage());
+                return Optional.empty();
+            }
+            if (signature == null) {
+                return Optional.empty();
+            }
+            boolean valid;
+            try {
+                signature.initVerify(keyVersion.publicKey());
+                signature.update(request.getInput().getValue());
+                valid = signature.verify(signatureBytes);
+            } catch (GeneralSecurityException e) {
+                // malformed signature
+                valid = false;
+            }
+            results.add(new VerificationResult(valid, valid ? null : INVALID_SIGNATURE));
+        }
+        return Optional.of(results);
+    }
+
+    /**
+     * Vault encodes jws marshaled signatures in unpadded base64url, and all others in standard base64.
+     */
+    private static Base64.Decoder signatureDecoder(Options options) {
+        return "jws".equals(options.marshalingAlgorithm()) ? Base64.getUrlDecoder() : Base64.getDecoder();
+    }
+
+    /**
+     * Returns the JCA signature matching the Vault signature options, or {@code null} if the combination is not
+     * supported locally.
+     */
+    private static Signature signature(KeyVersion keyVersion, Options options) throws GeneralSecurityException {
+        var type = keyVersion.type();
+        var prehashed = Boolean.TRUE.equals(options.prehashed());
+
+        if (type.equals("ed25519")) {
+            return prehashed ? null : Signature.getInstance("Ed25519");
+        }
+
+        var hash = digestAlgorithm(options.hashAlgorithm() != null ? options.hashAlgorithm() : "sha2-256");
+        if (hash == null) {
+            return null;
+        }
+        // SHA-256 -> SHA256withECDSA, but SHA3-256 -> SHA3-256withECDSA
+        var signatureHash = hash.startsWith("SHA3-") ? hash : hash.replace("-", "");
+
+        if (type.startsWith("ecdsa-")) {
+            var marshaling = options.marshalingAlgorithm() != null ? options.marshalingAlgorithm() : "asn1";
+            var format = switch (marshaling) {
+                case "asn1" -> "";
+                case "jws" -> "inP1363Format";
+                default -> null;
+            };
+            if (format == null) {
+                return null;
+            }
+            return Signature.getInstance((prehashed ? "NONE" : signatureHash) + "withECDSA" + format);
+        }
+
+        if (type.startsWith("rsa-")) {
+            if (prehashed) {
+                return null;
+            }
+            var algorithm = options.signatureAlgorithm() != null ? options.signatureAlgorithm() : "pss";
+            if (algorithm.equals("pkcs1v15")) {
+                return Signature.getInstance(signatureHash + "withRSA");
+            } else if (algorithm.equals("pss")) {
+                var publicKey = (RSAPublicKey) keyVersion.publicKey();
+                var hashLength = MessageDigest.getInstance(hash).getDigestLength();
+                // Vault signs with the maximum salt length ("auto")
+                var emLength = (publicKey.getModulus().bitLength() - 1 + 7) / 8;
+                var saltLength = emLength - hashLength - 2;
+                var signature = Signature.getInstance("RSASSA-PSS");
+                signature.setParameter(new PSSParameterSpec(hash, "MGF1", new MGF1ParameterSpec(hash), saltLength,
+                        PSSParameterSpec.TRAILER_FIELD_BC));
+                return signature;
+            }
+        }
+        return null;
+    }
+
+    private static String digestAlgorithm(String hashAlgorithm) {
+        return switch (hashAlgorithm) {
+            case "sha2-224" -> "SHA-224";
+            case "sha2-256" -> "SHA-256";
+            case "sha2-384" -> "SHA-384";
+            case "sha2-512" -> "SHA-512";
+            case "sha3-224" -> "SHA3-224";
+            case "sha3-256" -> "SHA3-256";
+            case "sha3-384" -> "SHA3-384";
+            case "sha3-512" -> "SHA3-512";
+            default -> null;
+        };
+    }
+}
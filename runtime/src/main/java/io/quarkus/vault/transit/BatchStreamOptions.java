@@ -0,0 +1,49 @@
+package io.quarkus.vault.transit;
+
+import java.time.Duration;
+
+/**
+ * Options of a stream of transit items processed in batches.
+ */
+public class BatchStreamOptions {
+
+    private int batchSize = 100;
+    private Duration maxDelay = Duration.ofMillis(50);
+    private int concurrency = 4;
+
+    /**
+     * Maximum number of items sent to Vault in a single batch request. Defaults to 100.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public BatchStreamOptions setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Maximum time an item waits for other items to fill its batch. Defaults to 50ms.
+     */
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public BatchStreamOptions setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    /**
+     * Maximum number of batch requests in flight. Defaults to 4.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public BatchStreamOptions setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+}
@@ -0,0 +1,61 @@
+package io.quarkus.vault.transit;
+
+/**
+ * Options of a bulk rewrapping.
+ */
+public class BulkRewrappingOptions {
+
+    private int batchSize = 100;
+    private int concurrency = 4;
+    private Double maxItemsPerSecond;
+    private long startOffset;
+
+    /**
+     * Number of ciphertexts sent to Vault in a single rewrap batch request. Defaults to 100.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public BulkRewrappingOptions setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Maximum number of rewrap batch requests in flight. Defaults to 4.
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public BulkRewrappingOptions setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * Target throughput in ciphertexts per second, unlimited if {@code null}.
+     */
+    public Double getMaxItemsPerSecond() {
+        return maxItemsPerSecond;
+    }
+
+    public BulkRewrappingOptions setMaxItemsPerSecond(Double maxItemsPerSecond) {
+        this.maxItemsPerSecond = maxItemsPerSecond;
+        return this;
+    }
+
+    /**
+     * Offset of the first ciphertext of the stream, typically the last checkpoint of a previous run that is being
+     * resumed. Defaults to 0.
+     */
+    public long getStartOffset() {
+        return startOffset;
+    }
+
+    public BulkRewrappingOptions setStartOffset(long startOffset) {
+        this.startOffset = startOffset;
+        return this;
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.vault.transit;
+
+import java.util.Map;
+
+/**
+ * Result of one batch of a bulk rewrapping.
+ * <p>
+ * Offsets are positions in the stream of ciphertexts, starting at
+ * {@link BulkRewrappingOptions#getStartOffset()}. Batches may complete out of order; the checkpoint is the offset
+ * below which every ciphertext has been reported in this or a previous progress item. Once a progress item has been
+ * handled, its checkpoint is the offset to resume from after a failure.
+ */
+public class BulkRewrappingProgress {
+
+    private final long fromOffset;
+    private final long toOffset;
+    private final long checkpoint;
+    private final Map<RewrappingRequest, String> rewrapped;
+    private final Map<RewrappingRequest, String> errors;
+
+    public BulkRewrappingProgress(long fromOffset, long toOffset, long checkpoint,
+            Map<RewrappingRequest, String> rewrapped, Map<RewrappingRequest, String> errors) {
+        this.fromOffset = fromOffset;
+        this.toOffset = toOffset;
+        this.checkpoint = checkpoint;
+        this.rewrapped = rewrapped;
+        this.errors = errors;
+    }
+
+    /**
+     * Offset of the first ciphertext of this batch.
+     */
+    public long getFromOffset() {
+        return fromOffset;
+    }
+
+    /**
+     * Offset following the last ciphertext of this batch.
+     */
+    public long getToOffset() {
+        return toOffset;
+    }
+
+    /**
+     * Offset below which every ciphertext of the stream has been reported, successfully rewrapped or not.
+     */
+    public long getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Requests of this batch with their new cipher text, in stream order.
+     */
+    public Map<RewrappingRequest, String> getRewrapped() {
+        return rewrapped;
+    }
+
+    /**
+     * Requests of this batch that could not be rewrapped, with the error message.
+     */
+    public Map<RewrappingRequest, String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,48 @@
+package io.quarkus.vault.transit;
+
+import io.quarkus.vault.client.VaultException;
+
+/**
+ * Result of one item of a streamed transit operation: either a value, or the error returned by Vault for the item.
+ *
+ * @param <V> the value type
+ */
+public class TransitResult<V> {
+
+    private final V value;
+    private final String error;
+
+    public TransitResult(V value, String error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * The value, e.g. the cipher text of an encryption, or {@code null} if the item is in error.
+     * For signature verifications, whether the signature is valid.
+     */
+    public V getValue() {
+        return value;
+    }
+
+    /**
+     * The error message returned by Vault for this item, or {@code null}.
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Returns the value, or throws a {@link VaultException} with the error message if the item is in error.
+     */
+    public V getValueOrElseError() {
+        if (error != null) {
+            throw new VaultException(error);
+        }
+        return value;
+    }
+
+    public boolean isInError() {
+        return error != null;
+    }
+}
@@ -0,0 +1,195 @@
+package io.quarkus.vault.runtime;
+
+import static io.quarkus.credentials.CredentialsProvider.PASSWORD_PROPERTY_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.VaultKVSecretReactiveEngine;
+import io.quarkus.vault.client.VaultClientException;
+import io.quarkus.vault.credentials.VaultCredentialsRotatedEvent;
+import io.smallrye.mutiny.Uni;
+
+class VaultCredentialsProviderTest {
+
+    private final AtomicInteger reads = new AtomicInteger();
+    private final RecordingEvent<VaultCredentialsRotatedEvent> events = new RecordingEvent<>();
+
+    private volatile Supplier<Uni<Map<String, Object>>> secret = () -> password("connor");
+
+    @Test
+    void cachesCredentialsForCachePeriod() throws InterruptedException {
+        var provider = provider("0.3S");
+
+        assertEquals("connor", password(provider));
+        assertEquals("connor", password(provider));
+        assertEquals(1, reads.get());
+
+        secret = () -> password("sarah");
+        Thread.sleep(400);
+        assertEquals("sarah", password(provider));
+        assertEquals(2, reads.get());
+        assertEquals(List.of("static"), events.fired.stream()
+                .map(VaultCredentialsRotatedEvent::getCredentialsProviderName)
+                .toList());
+    }
+
+    @Test
+    void readsCredentialsOnEveryRequestWithoutCachePeriod() {
+        var provider = provider("0");
+
+        assertEquals("connor", password(provider));
+        assertEquals("connor", password(provider));
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void readsCredentialsOnEveryRequestByDefault() {
+        var provider = provider(null);
+
+        assertEquals("connor", password(provider));
+        assertEquals("connor", password(provider));
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void concurrentCallersShareOneRead() {
+        var provider = provider("1M");
+        var gate = new CompletableFuture<Map<String, Object>>();
+        secret = () -> Uni.createFrom().completionStage(gate);
+
+        var callers = IntStream.range(0, 5)
+                .mapToObj(i -> provider.getCredentialsAsync("static").subscribeAsCompletionStage())
+                .toList();
+        assertEquals(1, reads.get());
+
+        gate.complete(Map.of("password", "connor"));
+        callers.forEach(caller -> assertEquals("connor", caller.join().get(PASSWORD_PROPERTY_NAME)));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    void returnsLastCredentialsWhenVaultCannotBeReached() throws InterruptedException {
+        var provider = provider("0.1S");
+        assertEquals("connor", password(provider));
+
+        secret = () -> Uni.createFrom().failure(new VaultClientException("Test", "/v1/secret/data/myapps/db", null,
+                List.of("Unable to establish connection"), new ConnectException("connection refused")));
+        Thread.sleep(150);
+        assertEquals("connor", password(provider));
+        assertEquals(2, reads.get());
+        assertTrue(events.fired.isEmpty());
+    }
+
+    @Test
+    void failsOnVaultErrors() throws InterruptedException {
+        var provider = provider("0.1S");
+        assertEquals("connor", password(provider));
+
+        secret = () -> Uni.createFrom().failure(new VaultClientException("Test", "/v1/secret/data/myapps/db", 403,
+                List.of("permission denied"), null));
+        Thread.sleep(150);
+        var failure = assertThrows(VaultClientException.class, () -> password(provider));
+        assertEquals(403, failure.getStatus());
+    }
+
+    private static String password(VaultCredentialsProvider provider) {
+        return provider.getCredentialsAsync("static")
+                .await().atMost(Duration.ofSeconds(1))
+                .get(PASSWORD_PROPERTY_NAME);
+    }
+
+    private static Uni<Map<String, Object>> password(String password) {
+        return Uni.createFrom().item(Map.of("password", password));
+    }
+
+    private VaultCredentialsProvider provider(String cachePeriod) {
+        var provider = new VaultCredentialsProvider();
+        var config = new HashMap<String, String>();
+        config.put("quarkus.vault.credentials-provider.static.kv-path", "myapps/db");
+        if (cachePeriod != null) {
+            config.put("quarkus.vault.credentials-provider.static.kv-cache-period", cachePeriod);
+        }
+        provider.vaultConfigHolder = VaultTestConfig.configHolder(config);
+        provider.credentialsRotatedEvent = events;
+        provider.vaultKVSecretEngine = new StubKvEngine();
+        return provider;
+    }
+
+    private class StubKvEngine implements VaultKVSecretReactiveEngine {
+
+        @Override
+        public Uni<Map<String, Object>> readSecretJson(String path) {
+            assertEquals("myapps/db", path);
+            reads.incrementAndGet();
+            return secret.get();
+        }
+
+        @Override
+        public Uni<Map<String, String>> readSecret(String alias, String path) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Map<String, String>> readSecret(String path) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Map<String, Object>> readSecretJson(String alias, String path) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Void> writeSecret(String alias, String path, Map<String, String> secret) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Void> writeSecret(String path, Map<String, String> secret) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Void> deleteSecret(String alias, String path) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Void> deleteSecret(String path) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Void> destroySecret(String alias, String path, List<Integer> versions) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<Void> destroySecret(String path, List<Integer> versions) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<List<String>> listSecrets(String alias, String path) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Uni<List<String>> listSecrets(String path) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package io.quarkus.vault.runtime;
+
+import static io.quarkus.credentials.CredentialsProvider.USER_PROPERTY_NAME;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.VaultClient;
+import io.quarkus.vault.client.VaultClientException;
+import io.quarkus.vault.client.common.VaultRequest;
+import io.quarkus.vault.client.common.VaultRequestExecutor;
+import io.quarkus.vault.client.common.VaultResponse;
+import io.quarkus.vault.credentials.VaultCredentialsRotatedEvent;
+
+class VaultDynamicCredentialsManagerTest {
+
+    private final AtomicInteger creates = new AtomicInteger();
+    private final AtomicInteger renewals = new AtomicInteger();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final RecordingEvent<VaultCredentialsRotatedEvent> events = new RecordingEvent<>();
+
+    private volatile long createTtl = 3600;
+    private volatile long renewTtl = 3600;
+    private volatile int failingRenewals;
+    private volatile boolean revoked;
+    private volatile CompletableFuture<Void> createGate = CompletableFuture.completedFuture(null);
+
+    private VaultDynamicCredentialsManager manager;
+
+    @AfterEach
+    void stopManager() {
+        if (manager != null) {
+            manager.stopScheduler();
+        }
+    }
+
+    @Test
+    void servesCachedCredentialsWhenLeaseIsShorterThanGracePeriod() {
+        createTtl = 10;
+        manager = manager(Map.of());
+
+        assertEquals("u1", user());
+        assertEquals("u1", user());
+        assertEquals("u1", user());
+        assertEquals(1, creates.get());
+        assertEquals(0, renewals.get());
+    }
+
+    @Test
+    void renewsLeaseAtStartOfGracePeriod() {
+        createTtl = 3;
+        renewTtl = 3;
+        manager = manager(Map.of("quarkus.vault.renew-grace-period", "1S"));
+
+        long start = System.nanoTime();
+        assertEquals("u1", user());
+        await(() -> renewals.get() > 0, Duration.ofSeconds(5));
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // the lease is extended within the grace period, before it expires
+        assertTrue(elapsed >= 1900 && elapsed < 3000, "renewed after " + elapsed + "ms");
+        assertEquals(1, creates.get());
+        assertEquals("u1", user());
+        assertTrue(events.fired.isEmpty());
+    }
+
+    @Test
+    void createsNewCredentialsNearMaxTtlWhileServingOldOnes() {
+        createTtl = 3;
+        // the renewal is capped by the max ttl of the lease
+        renewTtl = 1;
+        manager = manager(Map.of("quarkus.vault.renew-grace-period", "2S"));
+
+        assertEquals("u1", user());
+        var gate = new CompletableFuture<Void>();
+        createGate = gate;
+
+        await(() -> creates.get() == 2, Duration.ofSeconds(3));
+        assertEquals(1, renewals.get());
+        // the old credentials are served while the new ones are being created
+        assertEquals("u1", user());
+        assertEquals(2, creates.get());
+
+        gate.complete(null);
+        await(() -> "u2".equals(user()), Duration.ofSeconds(1));
+        assertEquals(List.of("mydb"), rotated());
+    }
+
+    @Test
+    void concurrentCallersShareOneRefresh() {
+        var gate = new CompletableFuture<Void>();
+        createGate = gate;
+        manager = manager(Map.of());
+
+        var callers = IntStream.range(0, 5)
+                .mapToObj(i -> manager.getDynamicCredentials("database", "creds", "role")
+                        .subscribeAsCompletionStage())
+                .toList();
+        await(() -> creates.get() == 1, Duration.ofSeconds(1));
+
+        gate.complete(null);
+        callers.forEach(caller -> assertEquals("u1", caller.join().get(USER_PROPERTY_NAME)));
+        assertEquals(1, creates.get());
+    }
+
+    @Test
+    void retriesFailedRenewal() {
+        createTtl = 3;
+        renewTtl = 3;
+        failingRenewals = 1;
+        manager = manager(Map.of("quarkus.vault.renew-grace-period", "2S"), Duration.ofMillis(200));
+
+        assertEquals("u1", user());
+        await(() -> renewals.get() == 2, Duration.ofSeconds(3));
+
+        assertEquals(1, creates.get());
+        assertEquals("u1", user());
+        assertEquals(1, creates.get());
+    }
+
+    @Test
+    void evictionCancelsScheduledRenewal() throws InterruptedException {
+        createTtl = 2;
+        manager = manager(Map.of("quarkus.vault.renew-grace-period", "1S"));
+
+        assertEquals("u1", user());
+        revoked = true;
+        manager.validateCachedCredentials();
+        await(() -> !events.fired.isEmpty(), Duration.ofSeconds(1));
+
+        // past the renewal that was scheduled 1s after the creation
+        Thread.sleep(1500);
+        assertEquals(0, renewals.get());
+        assertEquals(List.of("mydb"), rotated());
+        assertEquals("u2", user());
+    }
+
+    @Test
+    void servesCachedCredentialsWithoutNetworkCall() {
+        manager = manager(Map.of());
+
+        assertEquals("u1", user());
+        assertEquals("u1", user());
+        assertEquals(1, creates.get());
+        assertEquals(0, renewals.get());
+        assertEquals(0, lookups.get());
+    }
+
+    @Test
+    void revokedLeaseIsEvictedInBackground() {
+        manager = manager(Map.of("quarkus.vault.dynamic-credentials-validation-period", "0.1S"));
+
+        assertEquals("u1", user());
+        await(() -> lookups.get() > 0, Duration.ofSeconds(1));
+        assertEquals("u1", user());
+        assertTrue(events.fired.isEmpty());
+
+        revoked = true;
+        await(() -> !events.fired.isEmpty(), Duration.ofSeconds(1));
+        assertEquals(List.of("mydb"), rotated());
+        assertEquals("u2", user());
+    }
+
+    @Test
+    void zeroValidationPeriodDisablesValidation() throws InterruptedException {
+        manager = manager(Map.of("quarkus.vault.dynamic-credentials-validation-period", "0S"));
+
+        assertEquals("u1", user());
+        Thread.sleep(200);
+        assertEquals(0, lookups.get());
+    }
+
+    private List<String> rotated() {
+        return events.fired.stream().map(VaultCredentialsRotatedEvent::getCredentialsProviderName).toList();
+    }
+
+    private String user() {
+        return manager.getDynamicCredentials("database", "creds", "role")
+                .await().atMost(Duration.ofSeconds(1))
+                .get(USER_PROPERTY_NAME);
+    }
+
+    private VaultDynamicCredentialsManager manager(Map<String, String> properties) {
+        return manager(properties, Duration.ofSeconds(30));
+    }
+
+    private VaultDynamicCredentialsManager manager(Map<String, String> properties, Duration renewalRetryDelay) {
+        var config = new HashMap<>(properties);
+        config.put("quarkus.vault.credentials-provider.mydb.database-credentials-role", "role");
+        var executor = new VaultRequestExecutor() {
+            @Override
+            public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+                switch (request.getPath()) {
+                    case "database/creds/role" -> {
+                        int n = creates.incrementAndGet();
+                        var body = lease("database/creds/role/" + n, createTtl,
+                                "{\"username\":\"u" + n + "\",\"password\":\"p" + n + "\"}");
+                        return createGate.thenApply(ignored -> response(request, body));
+                    }
+                    case "sys/leases/renew" -> {
+                        if (renewals.incrementAndGet() <= failingRenewals) {
+                            return CompletableFuture.failedStage(
+                                    new VaultClientException(request, 503, List.of("unavailable"), null));
+                        }
+                        return CompletableFuture.completedStage(
+                                response(request, lease("database/creds/role/" + creates.get(), renewTtl, "null")));
+                    }
+                    case "sys/leases/lookup" -> {
+                        lookups.incrementAndGet();
+                        if (revoked) {
+                            return CompletableFuture.failedStage(
+                                    new VaultClientException(request, 400, List.of("invalid lease"), null));
+                        }
+                        return CompletableFuture.completedStage(response(request, "{\"data\":{\"id\":\"lease\"}}"));
+                    }
+                    default -> {
+                        return CompletableFuture.failedStage(new IllegalStateException(request.getPath()));
+                    }
+                }
+            }
+        };
+        var client = VaultClient.builder()
+                .baseUrl("http://localhost:8200")
+                .executor(executor)
+                .clientToken("token")
+                .build();
+        return new VaultDynamicCredentialsManager(client, VaultTestConfig.configHolder(config), events, renewalRetryDelay);
+    }
+
+    private static String lease(String leaseId, long ttl, String data) {
+        return "{\"lease_id\":\"" + leaseId + "\",\"renewable\":true,\"lease_duration\":" + ttl + ",\"data\":" + data + "}";
+    }
+
+    private static <T> VaultResponse<T> response(VaultRequest<T> request, String body) {
+        return new VaultResponse<>(request, 200, List.of(), body.getBytes(UTF_8));
+    }
+
+    private static void await(BooleanSupplier condition, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met within " + timeout);
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+}
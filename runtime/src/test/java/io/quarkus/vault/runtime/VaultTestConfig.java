@@ -0,0 +1,28 @@
+package io.quarkus.vault.runtime;
+
+import java.util.Map;
+
+import io.quarkus.vault.runtime.config.VaultRuntimeConfig;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Builds a {@link VaultRuntimeConfig} from the given properties and the config defaults, without booting Quarkus.
+ */
+public final class VaultTestConfig {
+
+    private VaultTestConfig() {
+    }
+
+    public static VaultRuntimeConfig runtimeConfig(Map<String, String> properties) {
+        return new SmallRyeConfigBuilder()
+                .withMapping(VaultRuntimeConfig.class)
+                .withSources(new PropertiesConfigSource(properties, "test", 100))
+                .build()
+                .getConfigMapping(VaultRuntimeConfig.class);
+    }
+
+    public static VaultConfigHolder configHolder(Map<String, String> properties) {
+        return new VaultConfigHolder().setVaultRuntimeConfig(runtimeConfig(properties));
+    }
+}
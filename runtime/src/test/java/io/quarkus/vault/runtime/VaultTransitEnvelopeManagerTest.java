@@ -0,0 +1,170 @@
+package io.quarkus.vault.runtime;
+
+import static io.quarkus.vault.runtime.VaultTransitEnvelopeManager.PREFIX;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.VaultClient;
+import io.quarkus.vault.client.VaultException;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitDecryptBatchItem;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitDecryptBatchParams;
+import io.quarkus.vault.client.common.VaultRequest;
+import io.quarkus.vault.client.common.VaultRequestExecutor;
+import io.quarkus.vault.client.common.VaultResponse;
+
+class VaultTransitEnvelopeManagerTest {
+
+    private final AtomicInteger generations = new AtomicInteger();
+    private final AtomicInteger unwraps = new AtomicInteger();
+    // data key material by key id, whatever the version of the transit key that wraps it
+    private final Map<String, byte[]> dataKeys = new ConcurrentHashMap<>();
+
+    @Test
+    void decryptsWhatItEncrypts() {
+        var manager = manager(Map.of());
+
+        var ciphertext = encrypt(manager, "hello");
+
+        assertTrue(ciphertext.startsWith(PREFIX), ciphertext);
+        assertEquals("hello", decrypt(manager, ciphertext));
+        // the data key generated for the encryption is used without unwrapping it
+        assertEquals(0, unwraps.get());
+    }
+
+    @Test
+    void unwrapsDataKeyOnceToDecrypt() {
+        var ciphertext = encrypt(manager(Map.of()), "hello");
+        var manager = manager(Map.of());
+
+        assertEquals("hello", decrypt(manager, ciphertext));
+        assertEquals("hello", decrypt(manager, ciphertext));
+        assertEquals(1, unwraps.get());
+    }
+
+    @Test
+    void rejectsPayloadPairedWithAnotherWrappedKey() {
+        var ciphertext = encrypt(manager(Map.of()), "hello");
+        var parts = parts(ciphertext);
+        // the same data key wrapped by another version of the transit key, as after a rewrap
+        var rewrapped = wrappedKey(unwrappedKey(parts[0]).replace("vault:v1:", "vault:v2:"));
+
+        var failure = assertThrows(VaultException.class,
+                () -> decrypt(manager(Map.of()), PREFIX + rewrapped + ":" + parts[1]));
+        assertEquals("unable to decrypt data", failure.getMessage());
+        assertEquals("hello", decrypt(manager(Map.of()), ciphertext));
+    }
+
+    @Test
+    void generatesNewDataKeyAtMaxEncryptions() {
+        var manager = manager(Map.of("quarkus.vault.transit.envelope.max-encryptions", "2"));
+
+        var ciphertexts = IntStream.range(0, 5).mapToObj(i -> encrypt(manager, "hello-" + i)).toList();
+
+        assertEquals(3, generations.get());
+        assertEquals(List.of(1L, 2L, 2L), usesByWrappedKey(ciphertexts).values().stream().sorted().toList());
+        ciphertexts.forEach(ciphertext -> assertTrue(decrypt(manager, ciphertext).startsWith("hello-")));
+    }
+
+    @Test
+    void neverExceedsMaxEncryptionsUnderConcurrency() {
+        var manager = manager(Map.of("quarkus.vault.transit.envelope.max-encryptions", "10"));
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var encryptions = IntStream.range(0, 200)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> encrypt(manager, "hello-" + i), executor))
+                    .toList();
+            var ciphertexts = encryptions.stream().map(CompletableFuture::join).toList();
+
+            var uses = usesByWrappedKey(ciphertexts);
+            uses.values().forEach(count -> assertTrue(count <= 10, "data key used " + count + " times"));
+            assertEquals(uses.size(), generations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String encrypt(VaultTransitEnvelopeManager manager, String clearData) {
+        return manager.encrypt("key", clearData).await().atMost(Duration.ofSeconds(5));
+    }
+
+    private static String decrypt(VaultTransitEnvelopeManager manager, String ciphertext) {
+        return manager.decrypt("key", ciphertext).await().atMost(Duration.ofSeconds(5)).asString();
+    }
+
+    private static String[] parts(String ciphertext) {
+        return ciphertext.substring(PREFIX.length()).split(":");
+    }
+
+    private static Map<String, Long> usesByWrappedKey(List<String> ciphertexts) {
+        return ciphertexts.stream()
+                .collect(Collectors.groupingBy(ciphertext -> parts(ciphertext)[0], Collectors.counting()));
+    }
+
+    private static String wrappedKey(String transitCiphertext) {
+        return Base64.getEncoder().encodeToString(transitCiphertext.getBytes(UTF_8));
+    }
+
+    private static String unwrappedKey(String wrappedKey) {
+        return new String(Base64.getDecoder().decode(wrappedKey), UTF_8);
+    }
+
+    private VaultTransitEnvelopeManager manager(Map<String, String> properties) {
+        var executor = new VaultRequestExecutor() {
+            @Override
+            public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+                return switch (request.getPath()) {
+                    case "transit/datakey/plaintext/key" -> generateDataKey(request);
+                    case "transit/decrypt/key" -> unwrapDataKeys(request);
+                    default -> CompletableFuture.failedStage(new IllegalStateException(request.getPath()));
+                };
+            }
+        };
+        var client = VaultClient.builder()
+                .baseUrl("http://localhost:8200")
+                .executor(executor)
+                .clientToken("token")
+                .build();
+        var configHolder = VaultTestConfig.configHolder(new HashMap<>(properties));
+        return new VaultTransitEnvelopeManager(new VaultTransitManager(client, configHolder), configHolder);
+    }
+
+    private <T> CompletionStage<VaultResponse<T>> generateDataKey(VaultRequest<T> request) {
+        int n = generations.incrementAndGet();
+        var id = "datakey-" + n;
+        var key = new byte[32];
+        key[0] = (byte) n;
+        dataKeys.put(id, key);
+        var body = "{\"data\":{\"ciphertext\":\"vault:v1:" + id + "\",\"plaintext\":\""
+                + Base64.getEncoder().encodeToString(key) + "\"}}";
+        return CompletableFuture.completedStage(new VaultResponse<>(request, 200, List.of(), body.getBytes(UTF_8)));
+    }
+
+    private <T> CompletionStage<VaultResponse<T>> unwrapDataKeys(VaultRequest<T> request) {
+        var params = (VaultSecretsTransitDecryptBatchParams) request.getBody().orElseThrow();
+        unwraps.addAndGet(params.getBatchInput().size());
+        var items = params.getBatchInput().stream()
+                .map(VaultSecretsTransitDecryptBatchItem::getCiphertext)
+                .map(ciphertext -> dataKeys.get(ciphertext.substring(ciphertext.lastIndexOf(':') + 1)))
+                .map(key -> "{\"plaintext\":\"" + Base64.getEncoder().encodeToString(key) + "\"}")
+                .collect(Collectors.joining(","));
+        var body = "{\"data\":{\"batch_results\":[" + items + "]}}";
+        return CompletableFuture.completedStage(new VaultResponse<>(request, 200, List.of(), body.getBytes(UTF_8)));
+    }
+}
@@ -0,0 +1,260 @@
+package io.quarkus.vault.runtime;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.VaultClient;
+import io.quarkus.vault.client.VaultClientException;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitDecryptBatchItem;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitDecryptBatchParams;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitRewrapBatchItem;
+import io.quarkus.vault.client.api.secrets.transit.VaultSecretsTransitRewrapBatchParams;
+import io.quarkus.vault.client.common.VaultRequest;
+import io.quarkus.vault.client.common.VaultRequestExecutor;
+import io.quarkus.vault.client.common.VaultResponse;
+import io.quarkus.vault.transit.DecryptionRequest;
+import io.quarkus.vault.transit.RewrappingRequest;
+import io.quarkus.vault.transit.VaultDecryptionBatchException;
+
+class VaultTransitManagerTest {
+
+    private final List<List<String>> decryptBatches = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final List<List<String>> rewrapBatches = new CopyOnWriteArrayList<>();
+    private final AtomicInteger keyReads = new AtomicInteger();
+
+    private volatile int latestVersion = 1;
+
+    @Test
+    void chunksRequestsAtMaxSize() {
+        var manager = manager(Map.of("quarkus.vault.transit.chunking.decrypt-max-size", "3"));
+        var requests = decryptionRequests(7);
+
+        var results = manager.decrypt("key", requests).await().atMost(Duration.ofSeconds(5));
+
+        assertEquals(List.of(1, 3, 3), decryptBatches.stream().map(List::size).sorted().toList());
+        requests.forEach(request -> assertEquals(plaintext(request), results.get(request).asString()));
+    }
+
+    @Test
+    void sendsRequestsInOneBatchUpToMaxSize() {
+        var manager = manager(Map.of("quarkus.vault.transit.chunking.decrypt-max-size", "3"));
+
+        manager.decrypt("key", decryptionRequests(3)).await().atMost(Duration.ofSeconds(5));
+
+        assertEquals(1, decryptBatches.size());
+    }
+
+    @Test
+    void keepsResultsInOrderAcrossConcurrentChunks() {
+        var manager = manager(Map.of(
+                "quarkus.vault.transit.chunking.decrypt-max-size", "2",
+                "quarkus.vault.transit.chunking.concurrency", "4"));
+        var requests = decryptionRequests(10);
+
+        var results = manager.decrypt("key", requests).await().atMost(Duration.ofSeconds(5));
+
+        assertEquals(5, decryptBatches.size());
+        assertTrue(maxInFlight.get() > 1, "chunks were sent one at a time");
+        requests.forEach(request -> assertEquals(plaintext(request), results.get(request).asString()));
+    }
+
+    @Test
+    void failedChunkYieldsErrorPerItem() {
+        var manager = manager(Map.of("quarkus.vault.transit.chunking.decrypt-max-size", "2"));
+        var requests = new ArrayList<>(decryptionRequests(6));
+        requests.set(3, new DecryptionRequest("vault:v1:fail"));
+
+        var failure = assertThrows(VaultDecryptionBatchException.class,
+                () -> manager.decrypt("key", requests).await().atMost(Duration.ofSeconds(5)));
+
+        assertEquals(3, decryptBatches.size());
+        // the chunk holding the failing item failed as a whole, the other chunks succeeded
+        assertEquals(Set.of(requests.get(2), requests.get(3)), failure.getErrors().keySet());
+        assertEquals(4, failure.getValid().size());
+        for (int i : List.of(0, 1, 4, 5)) {
+            assertEquals(plaintext(requests.get(i)), failure.getValid().get(requests.get(i)).asString());
+        }
+    }
+
+    @Test
+    void rewrapSkipsCiphertextsAtLatestVersion() {
+        latestVersion = 2;
+        var manager = manager(Map.of("quarkus.vault.transit.rewrap-skip-current", "true"));
+        var requests = rewrappingRequests("vault:v1:a", "vault:v2:b", "vault:v1:c", "vault:v2:d");
+
+        var results = manager.rewrap("key", requests).await().atMost(Duration.ofSeconds(5));
+
+        assertEquals(List.of(List.of("vault:v1:a", "vault:v1:c")), rewrapBatches);
+        assertEquals(List.of("vault:v2:a", "vault:v2:b", "vault:v2:c", "vault:v2:d"),
+                requests.stream().map(results::get).toList());
+    }
+
+    @Test
+    void rewrapSkipsVaultWhenAllCiphertextsAreCurrent() {
+        latestVersion = 2;
+        var manager = manager(Map.of("quarkus.vault.transit.rewrap-skip-current", "true"));
+
+        assertEquals("vault:v2:a", manager.rewrap("key", "vault:v2:a").await().atMost(Duration.ofSeconds(5)));
+        assertEquals("vault:v2:a", manager.rewrap("key", "vault:v2:a").await().atMost(Duration.ofSeconds(5)));
+
+        assertTrue(rewrapBatches.isEmpty());
+        assertEquals(1, keyReads.get());
+    }
+
+    @Test
+    void rewrapSendsMalformedCiphertextsToVault() {
+        latestVersion = 2;
+        var manager = manager(Map.of("quarkus.vault.transit.rewrap-skip-current", "true"));
+        var requests = rewrappingRequests("vault:v2:a", "garbage", "vault:vX:b", "vault:v2", "vault:v0:c", "vault:v1:d");
+
+        var results = manager.rewrap("key", requests).await().atMost(Duration.ofSeconds(5));
+
+        assertEquals(List.of(List.of("garbage", "vault:vX:b", "vault:v2", "vault:v0:c", "vault:v1:d")), rewrapBatches);
+        assertEquals("vault:v2:a", results.get(requests.get(0)));
+        assertEquals("vault:v2:garbage", results.get(requests.get(1)));
+        assertEquals("vault:v2:d", results.get(requests.get(5)));
+    }
+
+    @Test
+    void rotateKeyInvalidatesKeyDetails() {
+        var manager = manager(Map.of("quarkus.vault.transit.rewrap-skip-current", "true"));
+
+        assertEquals("vault:v1:a", manager.rewrap("key", "vault:v1:a").await().atMost(Duration.ofSeconds(5)));
+        assertTrue(rewrapBatches.isEmpty());
+
+        latestVersion = 2;
+        manager.rotateKey("key").await().atMost(Duration.ofSeconds(5));
+
+        assertEquals("vault:v2:a", manager.rewrap("key", "vault:v1:a").await().atMost(Duration.ofSeconds(5)));
+        assertEquals(List.of(List.of("vault:v1:a")), rewrapBatches);
+        assertEquals(2, keyReads.get());
+    }
+
+    @Test
+    void newerCiphertextVersionInvalidatesKeyDetails() {
+        var manager = manager(Map.of("quarkus.vault.transit.rewrap-skip-current", "true"));
+        manager.rewrap("key", "vault:v1:a").await().atMost(Duration.ofSeconds(5));
+
+        // rotated elsewhere, the cached key details are outdated
+        latestVersion = 2;
+        manager.rewrap("key", "vault:v2:b").await().atMost(Duration.ofSeconds(5));
+        assertEquals(1, keyReads.get());
+
+        assertEquals("vault:v2:c", manager.rewrap("key", "vault:v2:c").await().atMost(Duration.ofSeconds(5)));
+        assertEquals(List.of(List.of("vault:v2:b")), rewrapBatches);
+        assertEquals(2, keyReads.get());
+    }
+
+    private static List<DecryptionRequest> decryptionRequests(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new DecryptionRequest("vault:v1:item" + i))
+                .toList();
+    }
+
+    private static List<RewrappingRequest> rewrappingRequests(String... ciphertexts) {
+        return Stream.of(ciphertexts).map(RewrappingRequest::new).toList();
+    }
+
+    private static String plaintext(DecryptionRequest request) {
+        return plaintext(request.getCiphertext());
+    }
+
+    private static String plaintext(String ciphertext) {
+        return "clear-" + ciphertext.substring(ciphertext.lastIndexOf(':') + 1);
+    }
+
+    private VaultTransitManager manager(Map<String, String> properties) {
+        var executor = new VaultRequestExecutor() {
+            @Override
+            public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+                return switch (request.getPath()) {
+                    case "transit/decrypt/key" -> decrypt(request);
+                    case "transit/rewrap/key" -> rewrap(request);
+                    case "transit/keys/key" -> readKey(request);
+                    case "transit/keys/key/rotate" ->
+                        CompletableFuture.completedStage(new VaultResponse<>(request, 204, List.of(), new byte[0]));
+                    default -> CompletableFuture.failedStage(new IllegalStateException(request.getPath()));
+                };
+            }
+        };
+        var client = VaultClient.builder()
+                .baseUrl("http://localhost:8200")
+                .executor(executor)
+                .clientToken("token")
+                .build();
+        return new VaultTransitManager(client, VaultTestConfig.configHolder(new HashMap<>(properties)));
+    }
+
+    private <T> CompletionStage<VaultResponse<T>> decrypt(VaultRequest<T> request) {
+        var params = (VaultSecretsTransitDecryptBatchParams) request.getBody().orElseThrow();
+        var ciphertexts = params.getBatchInput().stream()
+                .map(VaultSecretsTransitDecryptBatchItem::getCiphertext)
+                .toList();
+        decryptBatches.add(ciphertexts);
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        // earlier chunks respond later, so that chunks complete out of order
+        var delayed = CompletableFuture.delayedExecutor(Math.max(0, 100 - 10 * decryptBatches.size()), MILLISECONDS);
+        return CompletableFuture.supplyAsync(() -> {
+            inFlight.decrementAndGet();
+            if (ciphertexts.contains("vault:v1:fail")) {
+                throw new VaultClientException(request, 503, List.of("unavailable"), null);
+            }
+            var items = ciphertexts.stream()
+                    .map(ciphertext -> "{\"plaintext\":\"" + Base64.getEncoder()
+                            .encodeToString(plaintext(ciphertext).getBytes(UTF_8)) + "\"}")
+                    .collect(Collectors.joining(","));
+            var body = "{\"data\":{\"batch_results\":[" + items + "]}}";
+            return new VaultResponse<>(request, 200, List.of(), body.getBytes(UTF_8));
+        }, delayed);
+    }
+
+    private <T> CompletionStage<VaultResponse<T>> rewrap(VaultRequest<T> request) {
+        var params = (VaultSecretsTransitRewrapBatchParams) request.getBody().orElseThrow();
+        var ciphertexts = params.getBatchInput().stream()
+                .map(VaultSecretsTransitRewrapBatchItem::getCiphertext)
+                .toList();
+        rewrapBatches.add(ciphertexts);
+        var items = ciphertexts.stream()
+                .map(ciphertext -> "{\"ciphertext\":\"vault:v" + latestVersion + ":"
+                        + ciphertext.substring(ciphertext.lastIndexOf(':') + 1) + "\"}")
+                .collect(Collectors.joining(","));
+        var body = "{\"data\":{\"batch_results\":[" + items + "]}}";
+        return CompletableFuture.completedStage(new VaultResponse<>(request, 200, List.of(), body.getBytes(UTF_8)));
+    }
+
+    private <T> CompletionStage<VaultResponse<T>> readKey(VaultRequest<T> request) {
+        keyReads.incrementAndGet();
+        var versions = IntStream.rangeClosed(1, latestVersion)
+                .mapToObj(version -> "\"" + version + "\":1700000000")
+                .collect(Collectors.joining(","));
+        var body = "{\"data\":{\"name\":\"key\",\"type\":\"aes256-gcm96\",\"latest_version\":" + latestVersion +
+                ",\"min_available_version\":0,\"min_decryption_version\":1,\"min_encryption_version\":0" +
+                ",\"deletion_allowed\":false,\"derived\":false,\"exportable\":false,\"allow_plaintext_backup\":false" +
+                ",\"supports_encryption\":true,\"supports_decryption\":true,\"supports_derivation\":true" +
+                ",\"supports_signing\":false,\"keys\":{" + versions + "}}}";
+        return CompletableFuture.completedStage(new VaultResponse<>(request, 200, List.of(), body.getBytes(UTF_8)));
+    }
+}
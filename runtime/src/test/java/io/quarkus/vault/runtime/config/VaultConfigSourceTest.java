@@ -0,0 +1,317 @@
+package io.quarkus.vault.runtime.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.VaultClient;
+import io.quarkus.vault.client.VaultClientException;
+import io.quarkus.vault.client.common.VaultRequest;
+import io.quarkus.vault.client.common.VaultRequestExecutor;
+import io.quarkus.vault.client.common.VaultResponse;
+import io.quarkus.vault.config.VaultSecretConfigChangedEvent;
+import io.quarkus.vault.runtime.VaultKvManager;
+import io.quarkus.vault.runtime.VaultTestConfig;
+
+class VaultConfigSourceTest {
+
+    private final Map<String, Map<String, String>> secrets = new ConcurrentHashMap<>();
+    private final Map<String, Integer> versions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> dataReads = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> metadataReads = new ConcurrentHashMap<>();
+    private final Set<String> forbiddenMetadata = ConcurrentHashMap.newKeySet();
+    private final List<VaultSecretConfigChangedEvent> changes = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> delays = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private volatile CompletableFuture<Void> dataGate = CompletableFuture.completedFuture(null);
+    private volatile boolean failDataReads;
+
+    @Test
+    void unchangedVersionSkipsDataRead() {
+        putSecret("secret/app", 1, Map.of("foo", "bar"));
+        var source = configSource(Map.of());
+
+        assertEquals("bar", source.getValue("foo"));
+        assertEquals("bar", source.getValue("foo"));
+        assertEquals("bar", source.getValue("foo"));
+
+        assertEquals(1, dataReads("secret/app"));
+        assertEquals(2, metadataReads("secret/app"));
+    }
+
+    @Test
+    void bumpedVersionReadsDataAgain() {
+        putSecret("secret/app", 1, Map.of("foo", "bar"));
+        var source = configSource(Map.of());
+        assertEquals("bar", source.getValue("foo"));
+
+        putSecret("secret/app", 2, Map.of("foo", "baz"));
+        assertEquals("baz", source.getValue("foo"));
+
+        assertEquals(2, dataReads("secret/app"));
+        assertEquals(1, metadataReads("secret/app"));
+    }
+
+    @Test
+    void forbiddenMetadataFallsBackToDataReads() {
+        putSecret("secret/app", 1, Map.of("foo", "bar"));
+        forbiddenMetadata.add("secret/app");
+        var source = configSource(Map.of());
+
+        assertEquals("bar", source.getValue("foo"));
+        assertEquals("bar", source.getValue("foo"));
+        putSecret("secret/app", 2, Map.of("foo", "baz"));
+        assertEquals("baz", source.getValue("foo"));
+
+        assertEquals(3, dataReads("secret/app"));
+        // the metadata is not read again once it has been denied
+        assertEquals(1, metadataReads("secret/app"));
+    }
+
+    @Test
+    void versionCheckCanBeDisabled() {
+        putSecret("secret/app", 1, Map.of("foo", "bar"));
+        var source = configSource(Map.of("quarkus.vault.secret-config-version-check", "false"));
+
+        assertEquals("bar", source.getValue("foo"));
+        assertEquals("bar", source.getValue("foo"));
+
+        assertEquals(2, dataReads("secret/app"));
+        assertEquals(0, metadataReads("secret/app"));
+    }
+
+    @Test
+    void versionCheckIsDisabledByDefault() {
+        assertFalse(VaultTestConfig.runtimeConfig(Map.of()).secretConfigVersionCheck());
+    }
+
+    @Test
+    void concurrentReadsKeepPathPrecedence() {
+        putSecret("secret/base", 1, Map.of("a", "base", "b", "base", "c", "base", "d", "base"));
+        putSecret("secret/middle", 1, Map.of("b", "middle", "c", "middle"));
+        putSecret("secret/app", 1, Map.of("c", "app"));
+        putSecret("secret/prefixed", 1, Map.of("a", "prefixed"));
+        putSecret("other/override", 1, Map.of("a", "alias", "d", "alias"));
+        // earlier paths respond later, so that reads complete out of declaration order
+        delays.putAll(Map.of("secret/base", 200L, "secret/middle", 150L, "secret/app", 100L, "secret/prefixed", 50L));
+
+        var source = configSource(Map.of(
+                "quarkus.vault.secret-config-kv-path", "base,middle,app",
+                "quarkus.vault.secret-config-kv-path.pre", "prefixed",
+                "quarkus.vault.secret-config-concurrency", "4",
+                "quarkus.vault.kv-secret-engine.other.mount-path", "other",
+                "quarkus.vault.kv-secret-engine.other.secret-config-kv-path", "override"));
+
+        // later paths win, and aliases come after the default engine
+        assertEquals("alias", source.getValue("a"));
+        assertEquals("middle", source.getValue("b"));
+        assertEquals("app", source.getValue("c"));
+        assertEquals("alias", source.getValue("d"));
+        assertEquals("prefixed", source.getValue("pre.a"));
+        assertTrue(maxInFlight.get() > 1 && maxInFlight.get() <= 4, maxInFlight.get() + " reads in flight");
+    }
+
+    @Test
+    void backgroundRefreshServesStaleSnapshot() throws InterruptedException {
+        putSecret("secret/app", 1, Map.of("foo", "v1"));
+        var source = configSource(Map.of(
+                "quarkus.vault.secret-config-background-refresh", "true",
+                "quarkus.vault.secret-config-cache-period", "0.2S"));
+        assertEquals("v1", source.getValue("foo"));
+
+        putSecret("secret/app", 2, Map.of("foo", "v2"));
+        var gate = new CompletableFuture<Void>();
+        dataGate = gate;
+        Thread.sleep(250);
+
+        // the stale snapshot is served, and a single reload runs while it is in flight
+        for (int i = 0; i < 5; i++) {
+            assertEquals("v1", source.getValue("foo"));
+        }
+        await(() -> dataReads("secret/app") == 2);
+        assertEquals("v1", source.getValue("foo"));
+        assertEquals(1, metadataReads("secret/app"));
+        assertEquals(2, dataReads("secret/app"));
+
+        gate.complete(null);
+        await(() -> "v2".equals(source.getValue("foo")));
+    }
+
+    @Test
+    void failedBackgroundRefreshKeepsLastSnapshot() throws InterruptedException {
+        putSecret("secret/app", 1, Map.of("foo", "v1"));
+        var source = configSource(Map.of(
+                "quarkus.vault.secret-config-background-refresh", "true",
+                "quarkus.vault.secret-config-cache-period", "0.3S"));
+        assertEquals("v1", source.getValue("foo"));
+
+        putSecret("secret/app", 2, Map.of("foo", "v2"));
+        failDataReads = true;
+        Thread.sleep(350);
+        assertEquals("v1", source.getValue("foo"));
+        await(() -> dataReads("secret/app") == 2);
+        Thread.sleep(50);
+
+        // the last snapshot is kept for another cache period before retrying
+        assertEquals("v1", source.getValue("foo"));
+        assertEquals(1, metadataReads("secret/app"));
+        assertEquals(2, dataReads("secret/app"));
+
+        failDataReads = false;
+        Thread.sleep(300);
+        assertEquals("v1", source.getValue("foo"));
+        await(() -> "v2".equals(source.getValue("foo")));
+        assertEquals(2, metadataReads("secret/app"));
+        assertEquals(3, dataReads("secret/app"));
+    }
+
+    @Test
+    void firesChangedKeysOfEachPath() {
+        putSecret("secret/app", 1, Map.of("kept", "1", "updated", "1", "removed", "1"));
+        putSecret("other/override", 1, Map.of("a", "1"));
+        putSecret("secret/unchanged", 1, Map.of("b", "1"));
+        var source = configSource(Map.of(
+                "quarkus.vault.secret-config-kv-path", "app,unchanged",
+                "quarkus.vault.kv-secret-engine.other.mount-path", "other",
+                "quarkus.vault.kv-secret-engine.other.secret-config-kv-path", "override"));
+        assertEquals("1", source.getValue("kept"));
+
+        putSecret("secret/app", 2, Map.of("kept", "1", "updated", "2", "added", "2"));
+        putSecret("other/override", 2, Map.of("a", "2"));
+        // a new version with the same data
+        putSecret("secret/unchanged", 2, Map.of("b", "1"));
+        assertEquals("2", source.getValue("updated"));
+
+        assertEquals(List.of(
+                "<default> app [added, removed, updated]",
+                "other override [a]"),
+                changes.stream()
+                        .map(change -> change.getAlias() + " " + change.getPath() + " " + change.getChangedKeys())
+                        .toList());
+    }
+
+    @Test
+    void firesNoEventOnFirstLoadOrWithoutChanges() {
+        putSecret("secret/app", 1, Map.of("foo", "bar"));
+        var source = configSource(Map.of("quarkus.vault.secret-config-version-check", "false"));
+
+        assertEquals("bar", source.getValue("foo"));
+        assertEquals("bar", source.getValue("foo"));
+        putSecret("secret/app", 2, Map.of("foo", "bar"));
+        assertEquals("bar", source.getValue("foo"));
+
+        assertEquals(3, dataReads("secret/app"));
+        assertTrue(changes.isEmpty());
+    }
+
+    private void putSecret(String path, int version, Map<String, String> data) {
+        secrets.put(path, data);
+        versions.put(path, version);
+    }
+
+    private int dataReads(String path) {
+        return dataReads.getOrDefault(path, new AtomicInteger()).get();
+    }
+
+    private int metadataReads(String path) {
+        return metadataReads.getOrDefault(path, new AtomicInteger()).get();
+    }
+
+    /**
+     * Builds a config source reading {@code secret/app} by default from stubbed kv v2 engines, refreshing on every
+     * lookup and checking secret versions unless disabled.
+     */
+    private VaultConfigSource configSource(Map<String, String> properties) {
+        var config = new HashMap<String, String>();
+        config.put("quarkus.vault.url", "http://localhost:8200");
+        config.put("quarkus.vault.secret-config-kv-path", "app");
+        config.put("quarkus.vault.secret-config-cache-period", "0S");
+        config.put("quarkus.vault.secret-config-version-check", "true");
+        config.putAll(properties);
+        var configHolder = VaultTestConfig.configHolder(config);
+
+        var executor = new VaultRequestExecutor() {
+            @Override
+            public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+                return read(request);
+            }
+        };
+        var client = VaultClient.builder()
+                .baseUrl("http://localhost:8200")
+                .executor(executor)
+                .clientToken("token")
+                .build();
+        var kvManager = new VaultKvManager(client, configHolder);
+        return new VaultConfigSource(configHolder.getVaultRuntimeConfig(), () -> kvManager, changes::addAll);
+    }
+
+    private <T> CompletionStage<VaultResponse<T>> read(VaultRequest<T> request) {
+        String[] segments = request.getPath().split("/(data|metadata)/", 2);
+        String path = segments[0] + "/" + segments[1];
+        boolean metadata = request.getPath().startsWith(segments[0] + "/metadata/");
+        (metadata ? metadataReads : dataReads).computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+
+        if (metadata && forbiddenMetadata.contains(path)) {
+            return CompletableFuture.failedStage(new VaultClientException(request, 403, List.of("permission denied"), null));
+        }
+        Map<String, String> secret = secrets.get(path);
+        if (secret == null) {
+            return CompletableFuture.failedStage(new VaultClientException(request, 404, List.of(), null));
+        }
+        int version = versions.get(path);
+        String body;
+        if (metadata) {
+            body = "{\"data\":{\"current_version\":" + version + ",\"versions\":{\"" + version
+                    + "\":{\"destroyed\":false}}}}";
+        } else {
+            String data = secret.entrySet().stream()
+                    .map(entry -> "\"" + entry.getKey() + "\":\"" + entry.getValue() + "\"")
+                    .collect(Collectors.joining(","));
+            body = "{\"data\":{\"data\":{" + data + "},\"metadata\":{\"version\":" + version + "}}}";
+        }
+        if (!metadata && failDataReads) {
+            return CompletableFuture.failedStage(new VaultClientException(request, 503, List.of("sealed"), null));
+        }
+        CompletableFuture<Void> gate = metadata ? CompletableFuture.completedFuture(null) : dataGate;
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        return gate.thenApplyAsync(ignored -> {
+            inFlight.decrementAndGet();
+            return new VaultResponse<>(request, 200, List.of(), body.getBytes(UTF_8));
+        }, CompletableFuture.delayedExecutor(delays.getOrDefault(path, 0L), MILLISECONDS));
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("condition not met in time");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.quarkus.vault.runtime.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.runtime.events.VaultEventSubscriber.SecretEvent;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.ServerWebSocket;
+
+class VaultEventSubscriberTest {
+
+    private final Vertx vertx = Vertx.vertx();
+    private final BlockingQueue<String> subscriptions = new LinkedBlockingQueue<>();
+    private final BlockingQueue<SecretEvent> events = new LinkedBlockingQueue<>();
+    private final AtomicInteger tokens = new AtomicInteger();
+    private VaultEventSubscriber subscriber;
+
+    @AfterEach
+    void close() {
+        if (subscriber != null) {
+            subscriber.close();
+        }
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Test
+    void changesAreReported() throws Exception {
+        int port = listen(ws -> ws.writeTextMessage(event("kv-v2/data-write", "secret/", "secret/data/config")));
+        subscriber = subscriber(port);
+        subscriber.start();
+
+        assertEquals("/v1/sys/events/subscribe/kv*?json=true token-1",
+                subscriptions.poll(5, TimeUnit.SECONDS));
+        assertEquals(new SecretEvent("kv-v2/data-write", "secret", "config"), events.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void subscriptionIsRenewedWhenClosed() throws Exception {
+        var connections = new AtomicInteger();
+        int port = listen(ws -> {
+            if (connections.incrementAndGet() == 1) {
+                ws.close();
+            } else {
+                ws.writeTextMessage(event("kv-v1/write", "kv1", "kv1/config/app"));
+            }
+        });
+        subscriber = subscriber(port);
+        subscriber.start();
+
+        assertEquals(new SecretEvent("kv-v1/write", "kv1", "config/app"), events.poll(5, TimeUnit.SECONDS));
+        assertEquals("/v1/sys/events/subscribe/kv*?json=true token-1", subscriptions.poll());
+        assertEquals("/v1/sys/events/subscribe/kv*?json=true token-2", subscriptions.poll());
+    }
+
+    @Test
+    void unrelatedMessagesAreIgnored() throws Exception {
+        assertNull(VaultEventSubscriber.parse("{\"data\":{\"event_type\":\"kv-v2/data-write\"}}"));
+        assertEquals(new SecretEvent("kv-v2/metadata-delete", "team/kv", "app"), VaultEventSubscriber.parse(
+                event("kv-v2/metadata-delete", "team/kv/", "team/kv/metadata/app")));
+    }
+
+    private int listen(Handler<ServerWebSocket> handler) {
+        HttpServer server = vertx.createHttpServer()
+                .webSocketHandler(ws -> {
+                    subscriptions.add(ws.uri() + " " + ws.headers().get("X-Vault-Token"));
+                    handler.handle(ws);
+                });
+        return server.listen(0).toCompletionStage().toCompletableFuture().join().actualPort();
+    }
+
+    private VaultEventSubscriber subscriber(int port) throws Exception {
+        return new VaultEventSubscriber(vertx, vertx.createWebSocketClient(), new URL("http://localhost:" + port),
+                "v1", null, "kv*", Duration.ofMillis(10),
+                () -> CompletableFuture.completedFuture("token-" + tokens.incrementAndGet()), events::add);
+    }
+
+    private static String event(String eventType, String mountPath, String path) {
+        return "{\"id\":\"1\",\"source\":\"vault\",\"specversion\":\"1.0\",\"type\":\"*\",\"data\":{" +
+                "\"event\":{\"id\":\"1\",\"metadata\":{\"current_version\":\"2\",\"modified\":\"true\"," +
+                "\"operation\":\"data-write\",\"path\":\"" + path + "\"}}," +
+                "\"event_type\":\"" + eventType + "\"," +
+                "\"plugin_info\":{\"mount_class\":\"secret\",\"mount_path\":\"" + mountPath + "\",\"plugin\":\"kv\"}}}";
+    }
+}
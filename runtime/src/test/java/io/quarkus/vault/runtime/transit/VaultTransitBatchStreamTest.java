@@ -0,0 +1,84 @@
+package io.quarkus.vault.runtime.transit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.VaultException;
+import io.quarkus.vault.transit.BatchStreamOptions;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+class VaultTransitBatchStreamTest {
+
+    @Test
+    void resultsAreEmittedInRequestOrder() {
+        var batches = new AtomicInteger();
+        // earlier batches complete later
+        var results = VaultTransitBatchStream.process(Multi.createFrom().range(0, 50),
+                new BatchStreamOptions().setBatchSize(5).setConcurrency(4),
+                batch -> {
+                    batches.incrementAndGet();
+                    return Uni.createFrom().item(batch.stream().map(i -> "r" + i).toList())
+                            .onItem().delayIt().by(Duration.ofMillis(20 - batch.get(0) / 5 * 2L));
+                })
+                .collect().asList().await().indefinitely();
+
+        assertEquals(IntStream.range(0, 50).mapToObj(i -> "r" + i).toList(), results);
+        assertEquals(10, batches.get());
+    }
+
+    @Test
+    void partialBatchIsSentAfterMaxDelay() {
+        var sizes = new AtomicInteger();
+        var results = VaultTransitBatchStream.process(Multi.createFrom().items(1, 2, 3),
+                new BatchStreamOptions().setBatchSize(100).setMaxDelay(Duration.ofMillis(10)),
+                batch -> {
+                    sizes.addAndGet(batch.size());
+                    return Uni.createFrom().item(batch);
+                })
+                .collect().asList().await().atMost(Duration.ofSeconds(5));
+
+        assertEquals(List.of(1, 2, 3), results);
+        assertEquals(3, sizes.get());
+    }
+
+    @Test
+    void upstreamIsConsumedOnDemand() {
+        var emitted = new AtomicInteger();
+        var requests = Multi.createFrom().range(0, 100_000).onItem().invoke(emitted::incrementAndGet);
+
+        VaultTransitBatchStream.process(requests, new BatchStreamOptions().setBatchSize(10).setConcurrency(2),
+                batch -> Uni.createFrom().item(batch))
+                .select().first(5)
+                .collect().asList().await().indefinitely();
+
+        assertTrue(emitted.get() <= 40, "emitted " + emitted.get() + " items");
+    }
+
+    @Test
+    void batchFailureFailsTheStream() {
+        var results = VaultTransitBatchStream.process(Multi.createFrom().range(0, 10),
+                new BatchStreamOptions().setBatchSize(5),
+                batch -> batch.get(0) == 5 ? Uni.createFrom().failure(new VaultException("boom"))
+                        : Uni.createFrom().item(batch));
+
+        assertThrows(VaultException.class, () -> results.collect().asList().await().indefinitely());
+    }
+
+    @Test
+    void missingResultsFailTheStream() {
+        var results = VaultTransitBatchStream.process(Multi.createFrom().range(0, 10),
+                new BatchStreamOptions().setBatchSize(5),
+                batch -> Uni.createFrom().item(batch.subList(1, batch.size())));
+
+        assertThrows(VaultException.class, () -> results.collect().asList().await().indefinitely());
+    }
+}
@@ -0,0 +1,79 @@
+package io.quarkus.vault.runtime.transit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.VaultException;
+import io.smallrye.mutiny.Uni;
+
+class VaultTransitBatcherTest {
+
+    private ScheduledExecutorService scheduler;
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void fullBatchIsExecutedAtOnce() {
+        var batcher = new VaultTransitBatcher<String, String, String>(Duration.ofMinutes(1), 3, scheduler,
+                (key, requests) -> {
+                    batches.add(requests);
+                    return Uni.createFrom().item(requests.stream().map(r -> key + ":" + r).toList());
+                });
+
+        var first = batcher.submit("k", "a").subscribeAsCompletionStage();
+        var second = batcher.submit("k", "b").subscribeAsCompletionStage();
+        var third = batcher.submit("k", "c").subscribeAsCompletionStage();
+
+        assertEquals("k:a", first.join());
+        assertEquals("k:b", second.join());
+        assertEquals("k:c", third.join());
+        assertEquals(List.of(List.of("a", "b", "c")), batches);
+    }
+
+    @Test
+    void pendingBatchesAreExecutedPerKeyAfterWindow() {
+        var batcher = new VaultTransitBatcher<String, String, String>(Duration.ofMillis(5), 100, scheduler,
+                (key, requests) -> {
+                    batches.add(requests);
+                    return Uni.createFrom().item(requests.stream().map(r -> key + ":" + r).toList());
+                });
+
+        var first = batcher.submit("k1", "a").subscribeAsCompletionStage();
+        var second = batcher.submit("k2", "b").subscribeAsCompletionStage();
+
+        assertEquals("k1:a", first.join());
+        assertEquals("k2:b", second.join());
+        assertEquals(2, batches.size());
+    }
+
+    @Test
+    void batchFailureIsPropagatedToAllCallers() {
+        var batcher = new VaultTransitBatcher<String, String, String>(Duration.ofMinutes(1), 2, scheduler,
+                (key, requests) -> Uni.createFrom().failure(new VaultException("boom")));
+
+        var first = batcher.submit("k", "a").subscribeAsCompletionStage();
+        var second = batcher.submit("k", "b").subscribeAsCompletionStage();
+
+        assertThrows(Exception.class, first::join);
+        assertThrows(Exception.class, second::join);
+    }
+}
@@ -0,0 +1,104 @@
+package io.quarkus.vault.runtime.transit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.VaultException;
+import io.quarkus.vault.transit.BulkRewrappingOptions;
+import io.quarkus.vault.transit.BulkRewrappingProgress;
+import io.quarkus.vault.transit.RewrappingRequest;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+class VaultTransitBulkRewrapperTest {
+
+    @Test
+    void checkpointsOnlyCoverReportedBatches() {
+        // the first batch is the slowest one, so later batches are reported before it
+        var rewrapper = new VaultTransitBulkRewrapper(batch -> {
+            var delay = batch.get(0).getCiphertext().equals("vault:v1:0") ? 50 : 1;
+            return Uni.createFrom().item(rewrapped(batch)).onItem().delayIt().by(Duration.ofMillis(delay));
+        });
+
+        List<BulkRewrappingProgress> progress = rewrapper.rewrap(requests(0, 7),
+                new BulkRewrappingOptions().setBatchSize(2).setConcurrency(4).setStartOffset(10))
+                .collect().asList().await().indefinitely();
+
+        assertEquals(4, progress.size());
+        assertEquals(7, progress.stream().mapToInt(p -> p.getRewrapped().size()).sum());
+        var first = progress.stream().filter(p -> p.getFromOffset() == 10).findFirst().orElseThrow();
+        for (var p : progress) {
+            if (p != first && progress.indexOf(p) < progress.indexOf(first)) {
+                assertEquals(10, p.getCheckpoint());
+            }
+        }
+        assertEquals(17, progress.get(progress.size() - 1).getCheckpoint());
+        assertEquals("vault:v2:0", first.getRewrapped().values().iterator().next());
+    }
+
+    @Test
+    void itemErrorsAreReportedInProgress() {
+        var rewrapper = new VaultTransitBulkRewrapper(batch -> Uni.createFrom().item(batch.stream()
+                .map(r -> r.getCiphertext().endsWith(":1") ? new EncryptionResult(null, "invalid ciphertext")
+                        : new EncryptionResult(r.getCiphertext().replace("v1", "v2"), null))
+                .toList()));
+
+        var progress = rewrapper.rewrap(requests(0, 3), new BulkRewrappingOptions().setBatchSize(10))
+                .collect().asList().await().indefinitely();
+
+        assertEquals(1, progress.size());
+        assertEquals(2, progress.get(0).getRewrapped().size());
+        assertEquals(List.of("invalid ciphertext"), List.copyOf(progress.get(0).getErrors().values()));
+        assertEquals(3, progress.get(0).getCheckpoint());
+    }
+
+    @Test
+    void batchFailureFailsTheStream() {
+        var rewrapper = new VaultTransitBulkRewrapper(batch -> Uni.createFrom().failure(new VaultException("boom")));
+
+        assertThrows(VaultException.class, () -> rewrapper.rewrap(requests(0, 3), new BulkRewrappingOptions())
+                .collect().asList().await().indefinitely());
+    }
+
+    @Test
+    void upstreamIsConsumedOnDemand() {
+        var emitted = new AtomicInteger();
+        var rewrapper = new VaultTransitBulkRewrapper(batch -> Uni.createFrom().item(rewrapped(batch)));
+
+        var requests = requests(0, 100_000).onItem().invoke(emitted::incrementAndGet);
+        rewrapper.rewrap(requests, new BulkRewrappingOptions().setBatchSize(10).setConcurrency(2))
+                .select().first(1)
+                .collect().asList().await().indefinitely();
+
+        assertTrue(emitted.get() <= 50, "emitted " + emitted.get() + " items");
+    }
+
+    @Test
+    void throughputIsLimited() {
+        var rewrapper = new VaultTransitBulkRewrapper(batch -> Uni.createFrom().item(rewrapped(batch)));
+
+        long start = System.nanoTime();
+        rewrapper.rewrap(requests(0, 30), new BulkRewrappingOptions().setBatchSize(10).setMaxItemsPerSecond(200d))
+                .collect().asList().await().indefinitely();
+
+        // the first batch goes out immediately, the two others are spaced by 50ms
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 90);
+    }
+
+    private static Multi<RewrappingRequest> requests(int from, int to) {
+        return Multi.createFrom().range(from, to).map(i -> new RewrappingRequest("vault:v1:" + i));
+    }
+
+    private static List<EncryptionResult> rewrapped(List<RewrappingRequest> batch) {
+        return batch.stream()
+                .map(r -> new EncryptionResult(r.getCiphertext().replace("v1", "v2"), null))
+                .toList();
+    }
+}
@@ -0,0 +1,200 @@
+package io.quarkus.vault.runtime.transit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.MGF1ParameterSpec;
+import java.security.spec.PSSParameterSpec;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vault.client.VaultClient;
+import io.quarkus.vault.client.common.VaultRequest;
+import io.quarkus.vault.client.common.VaultRequestExecutor;
+import io.quarkus.vault.client.common.VaultResponse;
+import io.quarkus.vault.runtime.transit.VaultTransitLocalVerifier.Options;
+import io.quarkus.vault.transit.SigningInput;
+import io.quarkus.vault.transit.TransitContext;
+import io.quarkus.vault.transit.VerificationRequest;
+import io.smallrye.mutiny.Uni;
+
+class VaultTransitLocalVerifierTest {
+
+    private static final byte[] INPUT = "coucou".getBytes(UTF_8);
+    private static final Options DEFAULTS = new Options(null, null, null, null);
+
+    private final AtomicInteger readKeyRequests = new AtomicInteger();
+
+    @Test
+    void verifiesEcdsaSignatures() throws Exception {
+        var keyPair = KeyPairGenerator.getInstance("EC").generateKeyPair();
+        var verifier = verifier("ecdsa-p256", pem(keyPair));
+
+        var asn1 = signature(keyPair, "SHA256withECDSA", null);
+        var jws = jwsSignature(keyPair, "SHA384withECDSAinP1363Format");
+
+        assertEquals(List.of(true), valid(verifier.verify("key", List.of(request(asn1)), DEFAULTS)));
+        assertEquals(List.of(true), valid(verifier.verify("key", List.of(request(jws)),
+                new Options("sha2-384", null, null, "jws"))));
+        assertEquals(List.of(false), valid(verifier.verify("key", List.of(request(asn1, "other")), DEFAULTS)));
+        assertEquals(1, readKeyRequests.get());
+    }
+
+    @Test
+    void verifiesRsaPssSignatures() throws Exception {
+        var generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        var keyPair = generator.generateKeyPair();
+        var verifier = verifier("rsa-2048", pem(keyPair));
+
+        var modulusBits = ((RSAPublicKey) keyPair.getPublic()).getModulus().bitLength();
+        var saltLength = (modulusBits - 1 + 7) / 8 - 32 - 2;
+        var pss = new PSSParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, saltLength, 1);
+
+        var signature = signature(keyPair, "RSASSA-PSS", pss);
+        assertEquals(List.of(true), valid(verifier.verify("key", List.of(request(signature)), DEFAULTS)));
+    }
+
+    @Test
+    void verifiesEd25519Signatures() throws Exception {
+        var keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        var encoded = keyPair.getPublic().getEncoded();
+        var raw = Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length);
+        var verifier = verifier("ed25519", Base64.getEncoder().encodeToString(raw));
+
+        var signature = signature(keyPair, "Ed25519", null);
+        assertEquals(List.of(true, false), valid(verifier.verify("key",
+                List.of(request(signature), request(signature, "other")), DEFAULTS)));
+    }
+
+    @Test
+    void unsupportedRequestsAreLeftToVault() throws Exception {
+        var keyPair = KeyPairGenerator.getInstance("EC").generateKeyPair();
+        var verifier = verifier("ecdsa-p256", pem(keyPair));
+        var signature = signature(keyPair, "SHA256withECDSA", null);
+
+        var withContext = new VerificationRequest(signature, new SigningInput(INPUT), TransitContext.fromContext("ctx"));
+        assertTrue(verifier.verify("key", List.of(withContext), DEFAULTS).await().indefinitely().isEmpty());
+
+        var unknownVersion = request(signature.replace("vault:v1:", "vault:v2:"));
+        assertTrue(verifier.verify("key", List.of(unknownVersion), DEFAULTS).await().indefinitely().isEmpty());
+        // the unknown version triggered a refresh of the public keys
+        assertEquals(1, readKeyRequests.get());
+
+        assertFalse(verifier.verify("key", List.of(request(signature)), new Options("sha1", null, null, null))
+                .await().indefinitely().isPresent());
+    }
+
+    @Test
+    void versionsBelowMinDecryptionVersionAreLeftToVault() throws Exception {
+        var keyPair = KeyPairGenerator.getInstance("EC").generateKeyPair();
+        var verifier = verifier("ecdsa-p256", pem(keyPair), 2, 2, Duration.ofMinutes(1));
+        var v1 = signature(keyPair, "SHA256withECDSA", null);
+        var v2 = v1.replace("vault:v1:", "vault:v2:");
+
+        assertTrue(verifier.verify("key", List.of(request(v1)), DEFAULTS).await().indefinitely().isEmpty());
+        assertEquals(List.of(true), valid(verifier.verify("key", List.of(request(v2)), DEFAULTS)));
+        assertEquals(1, readKeyRequests.get());
+    }
+
+    @Test
+    void publicKeysExpireAfterCachePeriod() throws Exception {
+        var keyPair = KeyPairGenerator.getInstance("EC").generateKeyPair();
+        var verifier = verifier("ecdsa-p256", pem(keyPair), 1, 1, Duration.ZERO);
+        var signature = signature(keyPair, "SHA256withECDSA", null);
+
+        assertEquals(List.of(true), valid(verifier.verify("key", List.of(request(signature)), DEFAULTS)));
+        assertEquals(List.of(true), valid(verifier.verify("key", List.of(request(signature)), DEFAULTS)));
+        assertEquals(2, readKeyRequests.get());
+    }
+
+    private VaultTransitLocalVerifier verifier(String type, String publicKey) {
+        return verifier(type, publicKey, 1, 1, Duration.ofMinutes(1));
+    }
+
+    private VaultTransitLocalVerifier verifier(String type, String publicKey, int latestVersion,
+            int minDecryptionVersion, Duration cachePeriod) {
+        var keys = IntStream.rangeClosed(1, latestVersion)
+                .mapToObj(version -> "\"" + version + "\":{\"name\":\"" + type + "\",\"public_key\":\""
+                        + publicKey.replace("\n", "\\n") + "\"}")
+                .collect(Collectors.joining(","));
+        var body = "{\"data\":{\"name\":\"key\",\"type\":\"" + type + "\",\"latest_version\":" + latestVersion +
+                ",\"min_decryption_version\":" + minDecryptionVersion + ",\"keys\":{" + keys + "}}}";
+        var executor = new VaultRequestExecutor() {
+            @Override
+            public <T> CompletionStage<VaultResponse<T>> execute(VaultRequest<T> request) {
+                readKeyRequests.incrementAndGet();
+                return CompletableFuture.completedStage(new VaultResponse<>(request, 200, List.of(), body.getBytes(UTF_8)));
+            }
+        };
+        var client = VaultClient.builder()
+                .baseUrl("http://localhost:8200")
+                .executor(executor)
+                .clientToken("token")
+                .build();
+        // count only the reads made by the verifier
+        readKeyRequests.set(0);
+        return new VaultTransitLocalVerifier(client.secrets().transit("transit"), cachePeriod);
+    }
+
+    private static String pem(KeyPair keyPair) {
+        return "-----BEGIN PUBLIC KEY-----\n" +
+                Base64.getMimeEncoder(64, "\n".getBytes(UTF_8)).encodeToString(keyPair.getPublic().getEncoded()) +
+                "\n-----END PUBLIC KEY-----\n";
+    }
+
+    private static String signature(KeyPair keyPair, String algorithm, PSSParameterSpec parameters) throws Exception {
+        var signature = Signature.getInstance(algorithm);
+        if (parameters != null) {
+            signature.setParameter(parameters);
+        }
+        signature.initSign(keyPair.getPrivate());
+        signature.update(INPUT);
+        return "vault:v1:" + Base64.getEncoder().encodeToString(signature.sign());
+    }
+
+    /**
+     * Returns a signature encoded as Vault does with the jws marshaling, containing base64url specific characters.
+     */
+    private static String jwsSignature(KeyPair keyPair, String algorithm) throws Exception {
+        while (true) {
+            var signature = Signature.getInstance(algorithm);
+            signature.initSign(keyPair.getPrivate());
+            signature.update(INPUT);
+            var encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(signature.sign());
+            if (encoded.contains("-") || encoded.contains("_")) {
+                return "vault:v1:" + encoded;
+            }
+        }
+    }
+
+    private static VerificationRequest request(String signature) {
+        return new VerificationRequest(signature, new SigningInput(INPUT));
+    }
+
+    private static VerificationRequest request(String signature, String input) {
+        return new VerificationRequest(signature, new SigningInput(input));
+    }
+
+    private static List<Boolean> valid(Uni<Optional<List<VerificationResult>>> results) {
+        return results.await().indefinitely().orElseThrow().stream()
+                .map(VerificationResult::isValid)
+                .toList();
+    }
+}